@@ -0,0 +1,96 @@
+package com.sanketika.course_backend.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Broadcasts L1 invalidations over Redis pub/sub so every replica drops its
+ * local copy when a key changes. Messages are {@code node|cache|key}, with an
+ * empty key meaning "clear the whole cache"; a node ignores its own messages.
+ */
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private Function<String, TwoTierCache> caches = name -> null;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    void bind(Function<String, TwoTierCache> caches) {
+        this.caches = caches;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(nodeId + "|" + cacheName + "|" + key);
+    }
+
+    /**
+     * One pipelined round trip for many keys, for bulk evictions.
+     */
+    void publishEvictAll(String cacheName, Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        if (keys.size() == 1) {
+            publishEvict(cacheName, keys.iterator().next());
+            return;
+        }
+        try {
+            byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.publish(rawChannel, (nodeId + "|" + cacheName + "|" + key).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            logger.warn("Could not publish {} cache invalidations for {}: {}", keys.size(), cacheName, ex.getMessage());
+        }
+    }
+
+    void publishClear(String cacheName) {
+        publish(nodeId + "|" + cacheName + "|");
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException ex) {
+            logger.warn("Could not publish cache invalidation {}: {}", message, ex.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.apply(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if (parts[2].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sanketika.course_backend.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss counters per tier, plus writes and explicit evictions. Every L1
+ * hit is a Redis round trip saved.
+ */
+public class CacheTierStats {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l1Misses = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder l2Misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    void l1Hit() { l1Hits.increment(); }
+    void l1Miss() { l1Misses.increment(); }
+    void l2Hit() { l2Hits.increment(); }
+    void l2Miss() { l2Misses.increment(); }
+    void put(long count) { puts.add(count); }
+    void evict() { evictions.increment(); }
+
+    public long getL1Hits() { return l1Hits.sum(); }
+    public long getL1Misses() { return l1Misses.sum(); }
+    public long getL2Hits() { return l2Hits.sum(); }
+    public long getL2Misses() { return l2Misses.sum(); }
+    public long getPuts() { return puts.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+}
@@ -0,0 +1,191 @@
+package com.sanketika.course_backend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis value format of the caches: a three byte header (format version,
+ * value type, flags) followed by the value. Course and unit DTOs are written
+ * as Smile, serialized course JSON as its version and bytes, anything else
+ * (e.g. cached nulls) with Java serialization. Payloads of at least
+ * {@code compressThreshold} bytes are LZ4-compressed when that makes them
+ * smaller, with the raw length stored in front.
+ *
+ * Values written by releases before this format are Java serialization
+ * streams and are still read, so a rolling deploy keeps its cache. Values
+ * with a format version this release does not know read as a miss.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_JDK = 0;
+    private static final byte TYPE_COURSE = 1;
+    private static final byte TYPE_UNIT = 2;
+    private static final byte TYPE_COURSE_JSON = 3;
+
+    private static final byte FLAG_LZ4 = 1;
+
+    private static final int HEADER_SIZE = 3;
+
+    // Redis caps a string value at 512 MB, and an LZ4 block never expands
+    // more than 255 times; a stored raw length beyond either is corrupt.
+    private static final int MAX_RAW_LENGTH = 512 * 1024 * 1024;
+    private static final int MAX_LZ4_RATIO = 255;
+
+    // First byte of a Java serialization stream (0xACED).
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+    private final ObjectMapper smile = Jackson2ObjectMapperBuilder.smile().build();
+    private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final int compressThreshold;
+
+    /**
+     * @param compressThreshold smallest payload, in bytes, that is compressed; 0 never compresses
+     */
+    public CompactCacheSerializer(int compressThreshold) {
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.safeDecompressor();
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) return new byte[0];
+        try {
+            if (value instanceof CourseDto) {
+                return frame(TYPE_COURSE, smile.writeValueAsBytes(value));
+            }
+            if (value instanceof UnitDto) {
+                return frame(TYPE_UNIT, smile.writeValueAsBytes(value));
+            }
+            if (value instanceof CourseJsonCache.Entry entry) {
+                return frame(TYPE_COURSE_JSON, encode(entry));
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not write " + value.getClass().getSimpleName(), e);
+        }
+        return frame(TYPE_JDK, jdk.serialize(value));
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        if (bytes[0] == JDK_STREAM_MAGIC) {
+            return jdk.deserialize(bytes);
+        }
+        if (bytes[0] != FORMAT_VERSION || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+
+        byte[] payload = bytes;
+        int offset = HEADER_SIZE;
+        int length = bytes.length - HEADER_SIZE;
+        if ((bytes[2] & FLAG_LZ4) != 0) {
+            payload = decompress(bytes);
+            offset = 0;
+            length = payload.length;
+        }
+
+        try {
+            return switch (bytes[1]) {
+                case TYPE_COURSE -> smile.readValue(payload, offset, length, CourseDto.class);
+                case TYPE_UNIT -> smile.readValue(payload, offset, length, UnitDto.class);
+                case TYPE_COURSE_JSON -> decode(payload, offset, length);
+                case TYPE_JDK -> jdk.deserialize(Arrays.copyOfRange(payload, offset, offset + length));
+                default -> null;
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cached value of type " + bytes[1], e);
+        }
+    }
+
+    private byte[] frame(byte type, byte[] payload) {
+        if (compressThreshold > 0 && payload.length >= compressThreshold) {
+            int maxLength = compressor.maxCompressedLength(payload.length);
+            byte[] framed = new byte[HEADER_SIZE + Integer.BYTES + maxLength];
+            int compressed = compressor.compress(payload, 0, payload.length, framed, HEADER_SIZE + Integer.BYTES, maxLength);
+            if (Integer.BYTES + compressed < payload.length) {
+                writeHeader(framed, type, FLAG_LZ4);
+                ByteBuffer.wrap(framed, HEADER_SIZE, Integer.BYTES).putInt(payload.length);
+                return Arrays.copyOf(framed, HEADER_SIZE + Integer.BYTES + compressed);
+            }
+        }
+        byte[] framed = new byte[HEADER_SIZE + payload.length];
+        writeHeader(framed, type, (byte) 0);
+        System.arraycopy(payload, 0, framed, HEADER_SIZE, payload.length);
+        return framed;
+    }
+
+    private static void writeHeader(byte[] framed, byte type, byte flags) {
+        framed[0] = FORMAT_VERSION;
+        framed[1] = type;
+        framed[2] = flags;
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE + Integer.BYTES) {
+            throw new SerializationException("Truncated compressed cache value");
+        }
+        int rawLength = ByteBuffer.wrap(bytes, HEADER_SIZE, Integer.BYTES).getInt();
+        int compressedLength = bytes.length - HEADER_SIZE - Integer.BYTES;
+        if (rawLength < 0 || rawLength > MAX_RAW_LENGTH || rawLength > (long) compressedLength * MAX_LZ4_RATIO) {
+            throw new SerializationException("Corrupt compressed cache value: raw length " + rawLength
+                    + " for " + compressedLength + " compressed bytes");
+        }
+        byte[] raw = new byte[rawLength];
+        try {
+            int read = decompressor.decompress(bytes, HEADER_SIZE + Integer.BYTES,
+                    compressedLength, raw, 0, rawLength);
+            if (read != rawLength) {
+                throw new SerializationException("Compressed cache value is " + read + " bytes, expected " + rawLength);
+            }
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Corrupt compressed cache value", e);
+        }
+        return raw;
+    }
+
+    // Serialized course JSON: a presence byte and the version, then the bytes
+    // as they are. No bytes stand for an entry without JSON (never valid JSON).
+
+    private static byte[] encode(CourseJsonCache.Entry entry) {
+        byte[] json = entry.json() != null ? entry.json() : new byte[0];
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES + json.length);
+        buffer.put((byte) (entry.version() != null ? 1 : 0));
+        buffer.putLong(entry.version() != null ? entry.version() : 0L);
+        buffer.put(json);
+        return buffer.array();
+    }
+
+    private static CourseJsonCache.Entry decode(byte[] payload, int offset, int length) {
+        if (length < 1 + Long.BYTES) {
+            throw new SerializationException("Truncated course JSON cache value");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload, offset, length);
+        boolean hasVersion = buffer.get() != 0;
+        long version = buffer.getLong();
+        byte[] json = null;
+        if (buffer.hasRemaining()) {
+            json = new byte[buffer.remaining()];
+            buffer.get(json);
+        }
+        return new CourseJsonCache.Entry(hasVersion ? version : null, json);
+    }
+}
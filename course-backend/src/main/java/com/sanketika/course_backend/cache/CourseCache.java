@@ -0,0 +1,183 @@
+package com.sanketika.course_backend.cache;
+
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.utils.TransactionHooks;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-key access to the "courses" cache. Entries carry the course version, and
+ * a write only replaces an entry holding an older version, so a list or get
+ * that read the row before an update cannot put the stale DTO back afterwards.
+ * The version is compared and set in Redis (see {@link RedisCacheBatch}), so
+ * this holds across replicas; an eviction leaves the committed version behind
+ * for the same reason. Updating or evicting a course also drops its
+ * serialized form in {@link CourseJsonCache}.
+ */
+@Component
+public class CourseCache {
+
+    public static final String NAME = "courses";
+
+    private static final int STRIPES = 64;
+
+    private final CacheManager cacheManager;
+    private final CourseJsonCache jsonCache;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public CourseCache(CacheManager cacheManager, CourseJsonCache jsonCache) {
+        this.cacheManager = cacheManager;
+        this.jsonCache = jsonCache;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public CourseDto get(UUID id) {
+        Cache cache = cache();
+        if (cache == null) return null;
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null && wrapper.get() instanceof CourseDto dto ? dto : null;
+    }
+
+    /**
+     * Fetches a whole page of courses with one L1 pass and one Redis MGET.
+     */
+    public Map<UUID, CourseDto> getAll(Collection<UUID> ids) {
+        Map<UUID, CourseDto> found = new HashMap<>();
+        Cache cache = cache();
+        if (cache == null || ids.isEmpty()) return found;
+
+        if (cache instanceof TwoTierCache twoTier) {
+            Map<String, Object> values = twoTier.getAll(ids);
+            for (UUID id : ids) {
+                if (values.get(id.toString()) instanceof CourseDto dto) {
+                    found.put(id, dto);
+                }
+            }
+        } else {
+            for (UUID id : ids) {
+                CourseDto dto = get(id);
+                if (dto != null) found.put(id, dto);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Writes back DTOs that a list page had to build from the database. Runs
+     * off the request thread as one pipeline of versioned writes.
+     */
+    @Async
+    public void populateAll(List<CourseDto> dtos) {
+        Cache cache = cache();
+        if (cache == null || dtos.isEmpty()) return;
+
+        if (!(cache instanceof TwoTierCache twoTier)) {
+            dtos.forEach(this::populate);
+            return;
+        }
+
+        Map<UUID, CourseDto> byId = new LinkedHashMap<>();
+        dtos.forEach(dto -> byId.put(dto.getId(), dto));
+        twoTier.putAllIfNewer(byId, cached -> version((CourseDto) cached), NAME);
+    }
+
+    /**
+     * Caches a DTO read from the database, unless a newer version is already cached.
+     */
+    public void populate(CourseDto dto) {
+        Cache cache = cache();
+        if (cache != null) {
+            putIfNewer(cache, dto);
+        }
+    }
+
+    /**
+     * Writes the DTO of a saved course once the transaction commits.
+     */
+    public void writeThrough(CourseDto dto) {
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = cache();
+            if (cache != null) {
+                putIfNewer(cache, dto);
+            }
+            // Even when a read got the new version in first: the JSON may still be the old one.
+            jsonCache.evict(dto.getId());
+        });
+    }
+
+    /**
+     * Drops a changed course once the transaction commits. The version is read
+     * then, after the flush that bumped it.
+     */
+    public void evict(Course course) {
+        TransactionHooks.afterCommit(() -> evictNow(Map.of(course.getId(), version(course.getVersion()))));
+    }
+
+    /**
+     * Drops many changed courses, given their committed versions, once the
+     * transaction commits, with one pipeline per cache rather than one round
+     * trip per course.
+     */
+    public void evictAll(Map<UUID, Long> versions) {
+        if (versions.isEmpty()) return;
+        TransactionHooks.afterCommit(() -> evictNow(versions));
+    }
+
+    private void evictNow(Map<UUID, Long> versions) {
+        Cache cache = cache();
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.evictAllAt(versions, NAME);
+        } else if (cache != null) {
+            versions.keySet().forEach(cache::evict);
+        }
+        jsonCache.evictAll(versions.keySet());
+    }
+
+    private void putIfNewer(Cache cache, CourseDto dto) {
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.putIfNewer(dto.getId(), dto, version(dto), NAME);
+            return;
+        }
+        // Without a shared tier there is only this node to race with.
+        ReentrantLock lock = locks[Math.floorMod(dto.getId().hashCode(), STRIPES)];
+        lock.lock();
+        try {
+            Cache.ValueWrapper existing = cache.get(dto.getId());
+            if (existing == null || isOlder(existing.get(), dto)) {
+                cache.put(dto.getId(), dto);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isOlder(Object cached, CourseDto candidate) {
+        if (!(cached instanceof CourseDto current)) return true;
+        return version(current) < version(candidate);
+    }
+
+    private static long version(CourseDto dto) {
+        return version(dto.getVersion());
+    }
+
+    private static long version(Long version) {
+        return version != null ? version : -1L;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(NAME);
+    }
+}
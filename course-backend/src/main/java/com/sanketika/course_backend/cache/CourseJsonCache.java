@@ -0,0 +1,103 @@
+package com.sanketika.course_backend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Course DTOs as the JSON bytes GET /api/courses/get/{id} returns in
+ * result.data, written with the MVC ObjectMapper. A hit is sent as is, with
+ * no conversion or serialization of the course.
+ *
+ * Entries are derived from the "courses" entry of the same id, and
+ * {@link CourseCache} drops them whenever it replaces or evicts that entry.
+ * A write is checked, in Redis, against the course version CourseCache keeps
+ * there, so bytes serialized from a DTO that an update has since replaced
+ * are not written back after that update dropped them.
+ * A course with unit bodies in {@link UnitContentStore} is cached without
+ * bytes, so those bodies are not copied back onto the heap; it is served
+ * from the DTO, which streams them from the store.
+ */
+@Component
+public class CourseJsonCache {
+
+    public static final String NAME = "course-json";
+
+    /**
+     * Serialized course and the version it was serialized at; json is null
+     * for a course with offloaded unit bodies.
+     */
+    public record Entry(Long version, byte[] json) implements Serializable {
+    }
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public CourseJsonCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    public Entry get(UUID id) {
+        Cache cache = cache();
+        if (cache == null) return null;
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null && wrapper.get() instanceof Entry entry ? entry : null;
+    }
+
+    /**
+     * Serializes the DTO and caches the bytes unless the course has a newer
+     * version, cached or committed and evicted.
+     */
+    public Entry populate(CourseDto dto) {
+        Entry entry;
+        try {
+            entry = new Entry(dto.getVersion(),
+                    UnitContentStore.hasOffloaded(dto) ? null : objectMapper.writeValueAsBytes(dto));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize course " + dto.getId(), e);
+        }
+        Cache cache = cache();
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.putIfNewer(dto.getId(), entry, version(entry), CourseCache.NAME);
+            return entry;
+        }
+        if (cache == null) return entry;
+        Cache.ValueWrapper existing = cache.putIfAbsent(dto.getId(), entry);
+        if (existing != null && version(existing.get()) < version(entry)) {
+            cache.put(dto.getId(), entry);
+        }
+        return entry;
+    }
+
+    void evict(UUID id) {
+        Cache cache = cache();
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    void evictAll(Collection<UUID> ids) {
+        Cache cache = cache();
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.evictAll(ids);
+        } else if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+    }
+
+    private static long version(Object cached) {
+        return cached instanceof Entry entry && entry.version() != null ? entry.version() : -1L;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(NAME);
+    }
+}
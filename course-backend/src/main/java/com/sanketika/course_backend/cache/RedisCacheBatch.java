@@ -0,0 +1,198 @@
+package com.sanketika.course_backend.cache;
+
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Multi-key reads and writes against the Redis caches, using the same key
+ * prefix and value serialization as {@code RedisCache}, so entries written
+ * here are readable through the regular cache API and vice versa.
+ *
+ * Versioned writes compare and set in Redis itself, with one Lua script call
+ * per batch, so writers on different replicas cannot interleave. The version is
+ * kept under its own key, next to the value, and outlives the value: an
+ * eviction leaves it behind (raised to the version evicted at), which is what
+ * keeps a read that started before a change from writing the old value back.
+ */
+public class RedisCacheBatch {
+
+    private static final String VERSION_SUFFIX = "#version";
+
+    // KEYS: value, version per entry. ARGV: value, version, ttl in ms (0 = none) per entry.
+    // Writes an entry unless the stored version is newer, or the same with the
+    // value still there; returns 1 or 0 per entry.
+    private static final byte[] PUT_ALL_IF_NEWER = bytes("""
+            local written = {}
+            for i = 1, #KEYS / 2 do
+              local value, versionKey = KEYS[2 * i - 1], KEYS[2 * i]
+              local raw, version, ttl = ARGV[3 * i - 2], ARGV[3 * i - 1], ARGV[3 * i]
+              local current = tonumber(redis.call('GET', versionKey))
+              local stale = current and (tonumber(version) < current
+                  or (tonumber(version) == current and redis.call('EXISTS', value) == 1))
+              if stale then
+                written[i] = 0
+              else
+                if ttl ~= '0' then
+                  redis.call('SET', value, raw, 'PX', ttl)
+                  redis.call('SET', versionKey, version, 'PX', ttl)
+                else
+                  redis.call('SET', value, raw)
+                  redis.call('SET', versionKey, version)
+                end
+                written[i] = 1
+              end
+            end
+            return written
+            """);
+
+    // KEYS: value, version per entry. ARGV: version per entry.
+    // Deletes each value and raises its stored version.
+    private static final byte[] EVICT_ALL_AT = bytes("""
+            for i = 1, #KEYS / 2 do
+              redis.call('DEL', KEYS[2 * i - 1])
+              local current = tonumber(redis.call('GET', KEYS[2 * i]))
+              if not current or current < tonumber(ARGV[i]) then
+                redis.call('SET', KEYS[2 * i], ARGV[i], 'KEEPTTL')
+              end
+            end
+            return #ARGV
+            """);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheConfiguration cacheConfiguration;
+
+    public RedisCacheBatch(RedisConnectionFactory connectionFactory, RedisCacheConfiguration cacheConfiguration) {
+        this.connectionFactory = connectionFactory;
+        this.cacheConfiguration = cacheConfiguration;
+    }
+
+    /**
+     * One MGET for all keys; the result only contains keys that were present.
+     */
+    public Map<String, Object> getAll(String cacheName, List<String> keys) {
+        Map<String, Object> found = new HashMap<>();
+        if (keys.isEmpty()) return found;
+
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = serializeKey(cacheName, keys.get(i));
+        }
+
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(rawKeys);
+        }
+        if (values == null) return found;
+
+        for (int i = 0; i < keys.size() && i < values.size(); i++) {
+            byte[] raw = values.get(i);
+            if (raw == null) continue;
+            Object value = cacheConfiguration.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+            if (value != null && !(value instanceof NullValue)) {
+                found.put(keys.get(i), value);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * One DEL for all keys.
+     */
+    public void evictAll(String cacheName, List<String> keys) {
+        if (keys.isEmpty()) return;
+
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < keys.size(); i++) {
+            rawKeys[i] = serializeKey(cacheName, keys.get(i));
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.keyCommands().del(rawKeys);
+        }
+    }
+
+    /**
+     * Versioned write of every entry in one script call: an entry is stored
+     * unless the version under {@code versionCache} is newer, or the same and
+     * its value is still cached. Returns the keys that were written.
+     */
+    public List<String> putAllIfNewer(String cacheName, Map<String, Object> entries,
+                                      ToLongFunction<Object> versionOf, String versionCache) {
+        List<String> keys = new ArrayList<>(entries.keySet());
+        if (keys.isEmpty()) return keys;
+
+        byte[][] keysAndArgs = new byte[keys.size() * 5][];
+        int args = keys.size() * 2;
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            Object value = entries.get(key);
+            Duration ttl = cacheConfiguration.getTtlFunction().getTimeToLive(key, value);
+            long ttlMillis = ttl == null || ttl.isZero() || ttl.isNegative() ? 0L : ttl.toMillis();
+            keysAndArgs[2 * i] = serializeKey(cacheName, key);
+            keysAndArgs[2 * i + 1] = serializeKey(versionCache, key + VERSION_SUFFIX);
+            keysAndArgs[args + 3 * i] = toBytes(cacheConfiguration.getValueSerializationPair().write(value));
+            keysAndArgs[args + 3 * i + 1] = bytes(Long.toString(versionOf.applyAsLong(value)));
+            keysAndArgs[args + 3 * i + 2] = bytes(Long.toString(ttlMillis));
+        }
+
+        List<?> replies;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            replies = connection.scriptingCommands().eval(PUT_ALL_IF_NEWER, ReturnType.MULTI, args, keysAndArgs);
+        }
+
+        List<String> written = new ArrayList<>();
+        for (int i = 0; replies != null && i < keys.size() && i < replies.size(); i++) {
+            if (replies.get(i) instanceof Long stored && stored == 1L) {
+                written.add(keys.get(i));
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Evicts every key in one script call, leaving its version under
+     * {@code versionCache} at no less than the one given.
+     */
+    public void evictAllAt(String cacheName, Map<String, Long> versions, String versionCache) {
+        if (versions.isEmpty()) return;
+
+        byte[][] keysAndArgs = new byte[versions.size() * 3][];
+        int args = versions.size() * 2;
+        int i = 0;
+        for (Map.Entry<String, Long> entry : versions.entrySet()) {
+            keysAndArgs[2 * i] = serializeKey(cacheName, entry.getKey());
+            keysAndArgs[2 * i + 1] = serializeKey(versionCache, entry.getKey() + VERSION_SUFFIX);
+            keysAndArgs[args + i] = bytes(Long.toString(entry.getValue()));
+            i++;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.scriptingCommands().eval(EVICT_ALL_AT, ReturnType.INTEGER, args, keysAndArgs);
+        }
+    }
+
+    private byte[] serializeKey(String cacheName, String key) {
+        String prefixed = cacheConfiguration.getKeyPrefixFor(cacheName) + key;
+        return toBytes(cacheConfiguration.getKeySerializationPair().write(prefixed));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,274 @@
+package com.sanketika.course_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.ToLongFunction;
+
+/**
+ * A cache with a bounded in-process Caffeine tier (L1) in front of a shared
+ * Redis cache (L2). Reads try L1 first and backfill it from L2; writes and
+ * evictions go to both tiers and are broadcast so other replicas drop their L1.
+ */
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final RedisCacheBatch remoteBatch;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheTierStats stats = new CacheTierStats();
+
+    public TwoTierCache(String name,
+                        Cache<String, ValueWrapper> local,
+                        org.springframework.cache.Cache remote,
+                        RedisCacheBatch remoteBatch,
+                        CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.remoteBatch = remoteBatch;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    public CacheTierStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            stats.l1Hit();
+            return wrapper;
+        }
+        stats.l1Miss();
+
+        wrapper = remote.get(key);
+        if (wrapper != null) {
+            stats.l2Hit();
+            local.put(localKey, new SimpleValueWrapper(wrapper.get()));
+        } else {
+            stats.l2Miss();
+        }
+        return wrapper;
+    }
+
+    /**
+     * Looks up many keys at once: L1 first, then a single MGET against Redis
+     * for the rest. Returns the values found, keyed by {@code String.valueOf(key)}.
+     */
+    public Map<String, Object> getAll(Collection<?> keys) {
+        Map<String, Object> found = new HashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            String localKey = localKey(key);
+            ValueWrapper wrapper = local.getIfPresent(localKey);
+            if (wrapper != null && wrapper.get() != null) {
+                stats.l1Hit();
+                found.put(localKey, wrapper.get());
+            } else {
+                stats.l1Miss();
+                remoteKeys.add(localKey);
+            }
+        }
+        if (remoteKeys.isEmpty()) return found;
+
+        Map<String, Object> remoteHits = remoteBatch.getAll(name, remoteKeys);
+        for (String key : remoteKeys) {
+            Object value = remoteHits.get(key);
+            if (value != null) {
+                stats.l2Hit();
+                local.put(key, new SimpleValueWrapper(value));
+                found.put(key, value);
+            } else {
+                stats.l2Miss();
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Pipelined versioned write of many entries, compared and set in Redis
+     * (see {@link RedisCacheBatch#putAllIfNewer}). Written entries go to L1 and
+     * are broadcast; the rest are dropped from L1, as Redis holds a newer
+     * value. Returns the keys (as strings) that were written.
+     */
+    public List<String> putAllIfNewer(Map<?, ?> entries, ToLongFunction<Object> versionOf, String versionCache) {
+        Map<String, Object> byKey = new HashMap<>();
+        entries.forEach((key, value) -> byKey.put(localKey(key), value));
+        List<String> written = remoteBatch.putAllIfNewer(name, byKey, versionOf, versionCache);
+        Set<String> stored = new HashSet<>(written);
+        byKey.forEach((key, value) -> {
+            if (stored.contains(key)) {
+                local.put(key, new SimpleValueWrapper(value));
+            } else {
+                local.invalidate(key);
+            }
+        });
+        stats.put(written.size());
+        invalidationBus.publishEvictAll(name, written);
+        return written;
+    }
+
+    public boolean putIfNewer(Object key, Object value, long version, String versionCache) {
+        return !putAllIfNewer(Map.of(key, value), cached -> version, versionCache).isEmpty();
+    }
+
+    /**
+     * Evicts many keys in one pipeline, leaving each one's version in Redis
+     * raised to the given one, so only that version or a later one can be
+     * written back.
+     */
+    public void evictAllAt(Map<?, Long> versions, String versionCache) {
+        Map<String, Long> byKey = new HashMap<>();
+        versions.forEach((key, version) -> byKey.put(localKey(key), version));
+        remoteBatch.evictAllAt(name, byKey, versionCache);
+        local.invalidateAll(byKey.keySet());
+        stats.evict();
+        invalidationBus.publishEvictAll(name, new ArrayList<>(byKey.keySet()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        stats.put(1);
+        invalidationBus.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(existing != null ? existing.get() : value));
+        if (existing == null) {
+            stats.put(1);
+            invalidationBus.publishEvict(name, localKey(key));
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        stats.evict();
+        invalidationBus.publishEvict(name, localKey(key));
+    }
+
+    /**
+     * Evicts many keys with a single DEL against Redis; every key is still
+     * broadcast, in one pipeline, so other replicas drop it from their L1.
+     */
+    public void evictAll(Collection<?> keys) {
+        List<String> localKeys = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            localKeys.add(localKey(key));
+        }
+        remoteBatch.evictAll(name, localKeys);
+        local.invalidateAll(localKeys);
+        stats.evict();
+        invalidationBus.publishEvictAll(name, localKeys);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        stats.evict();
+        invalidationBus.publishClear(name);
+    }
+
+    /**
+     * L1-only lookup, for callers that read Redis themselves (the reactive
+     * read path) and report the outcome through {@link #backfillLocal}.
+     */
+    public Object getLocal(Object key) {
+        ValueWrapper wrapper = local.getIfPresent(localKey(key));
+        if (wrapper != null && wrapper.get() != null) {
+            stats.l1Hit();
+            return wrapper.get();
+        }
+        stats.l1Miss();
+        return null;
+    }
+
+    /**
+     * Records an L2 lookup made outside this cache; a value that was found
+     * is kept in L1 as {@link #get(Object)} would.
+     */
+    public void backfillLocal(Object key, Object value) {
+        if (value != null) {
+            stats.l2Hit();
+            local.put(localKey(key), new SimpleValueWrapper(value));
+        } else {
+            stats.l2Miss();
+        }
+    }
+
+    /**
+     * Approximate number of entries held in this node's L1.
+     */
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sanketika.course_backend.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every cache of the Redis {@link CacheManager} in a {@link TwoTierCache}
+ * with an L1 sized from {@link TwoTierCacheProperties}.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final RedisCacheBatch remoteBatch;
+    private final TwoTierCacheProperties properties;
+    private final CacheInvalidationBus invalidationBus;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               RedisCacheBatch remoteBatch,
+                               TwoTierCacheProperties properties,
+                               CacheInvalidationBus invalidationBus) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.remoteBatch = remoteBatch;
+        this.properties = properties;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.bind(caches::get);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Map<String, TwoTierCache> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    private TwoTierCache createCache(String name) {
+        TwoTierCacheProperties.L1 spec = properties.l1For(name);
+        return new TwoTierCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(spec.getMaxSize())
+                        .expireAfterWrite(spec.getTtl())
+                        .build(),
+                remoteCacheManager.getCache(name),
+                remoteBatch,
+                invalidationBus);
+    }
+}
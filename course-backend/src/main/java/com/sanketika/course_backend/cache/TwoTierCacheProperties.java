@@ -0,0 +1,49 @@
+package com.sanketika.course_backend.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for the in-process L1 tier, keyed by cache name
+ * (e.g. {@code app.cache.l1.courses.max-size=10000}), and for the format of
+ * values in Redis.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheProperties {
+
+    private String invalidationChannel = "cache-invalidation";
+
+    private L1 defaults = new L1();
+
+    private Map<String, L1> l1 = new HashMap<>();
+
+    private Serializer serializer = new Serializer();
+
+    public L1 l1For(String cacheName) {
+        return l1.getOrDefault(cacheName, defaults);
+    }
+
+    @Data
+    public static class L1 {
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Serializer {
+        /**
+         * compact (typed Smile, see CompactCacheSerializer) or jdk (Java
+         * serialization, the format before it). compact also reads jdk entries.
+         */
+        private String format = "compact";
+        /**
+         * Values of at least this many bytes are LZ4-compressed; 0 turns compression off.
+         */
+        private int compressThreshold = 1024;
+    }
+}
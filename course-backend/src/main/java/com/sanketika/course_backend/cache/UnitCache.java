@@ -0,0 +1,93 @@
+package com.sanketika.course_backend.cache;
+
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.utils.TransactionHooks;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-key access to the "units" cache, versioned like {@link CourseCache}: a
+ * write only lands if the unit's version in Redis is not newer, and changes
+ * are applied once their transaction commits, leaving the committed version
+ * behind on eviction. A read that loaded a unit before an update, delete or
+ * archive therefore cannot put the old DTO back after it.
+ */
+@Component
+public class UnitCache {
+
+    public static final String NAME = "units";
+
+    private final CacheManager cacheManager;
+
+    public UnitCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public UnitDto get(UUID id) {
+        Cache cache = cache();
+        if (cache == null) return null;
+        Cache.ValueWrapper wrapper = cache.get(id);
+        return wrapper != null && wrapper.get() instanceof UnitDto dto ? dto : null;
+    }
+
+    /**
+     * Caches a DTO read from the database, unless a newer version is already
+     * cached or the unit was evicted at a newer one.
+     */
+    public void populate(UnitDto dto) {
+        Cache cache = cache();
+        if (cache instanceof TwoTierCache twoTier) {
+            twoTier.putIfNewer(dto.getId(), dto, version(dto), NAME);
+        } else if (cache != null) {
+            synchronized (this) {
+                UnitDto current = get(dto.getId());
+                if (current == null || version(current) < version(dto)) {
+                    cache.put(dto.getId(), dto);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the DTO of a saved unit once the transaction commits. Hooks of two
+     * updates can run out of order; the older one does not land.
+     */
+    public void writeThrough(UnitDto dto) {
+        TransactionHooks.afterCommit(() -> populate(dto));
+    }
+
+    /**
+     * Drops a unit once the transaction commits, leaving {@code version} behind
+     * so that only that version or a later one can be cached again.
+     */
+    public void evict(UUID id, long version) {
+        evictAll(Map.of(id, version));
+    }
+
+    /**
+     * Drops many units, each at the given version, once the transaction commits.
+     */
+    public void evictAll(Map<UUID, Long> versions) {
+        if (versions.isEmpty()) return;
+        TransactionHooks.afterCommit(() -> {
+            Cache cache = cache();
+            if (cache instanceof TwoTierCache twoTier) {
+                twoTier.evictAllAt(versions, NAME);
+            } else if (cache != null) {
+                versions.keySet().forEach(cache::evict);
+            }
+        });
+    }
+
+    private static long version(UnitDto dto) {
+        return dto.getVersion() != null ? dto.getVersion() : -1L;
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(NAME);
+    }
+}
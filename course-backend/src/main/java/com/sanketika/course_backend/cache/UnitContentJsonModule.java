@@ -0,0 +1,72 @@
+package com.sanketika.course_backend.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.sanketika.course_backend.dto.UnitContentRef;
+import com.sanketika.course_backend.dto.UnitDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Registered on the MVC ObjectMapper (Spring Boot picks up Module beans).
+ * A UnitDto whose body is in {@link UnitContentStore} is written with that
+ * body as "content", streamed from the store, and contentRef is neither
+ * written nor accepted in requests. The Redis cache serializer has its own
+ * mapper and keeps the ref as a plain property.
+ */
+@Component
+public class UnitContentJsonModule extends SimpleModule {
+
+    public UnitContentJsonModule(UnitContentStore store) {
+        super("UnitContentJsonModule");
+        setMixInAnnotation(UnitDto.class, UnitDtoMixin.class);
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription beanDesc,
+                                                             List<BeanPropertyWriter> properties) {
+                if (!UnitDto.class.isAssignableFrom(beanDesc.getBeanClass())) return properties;
+                properties.replaceAll(property -> "content".equals(property.getName())
+                        ? new ContentWriter(property, store)
+                        : property);
+                return properties;
+            }
+        });
+    }
+
+    abstract static class UnitDtoMixin {
+        @JsonIgnore
+        abstract UnitContentRef getContentRef();
+
+        @JsonIgnore
+        abstract void setContentRef(UnitContentRef contentRef);
+    }
+
+    static class ContentWriter extends BeanPropertyWriter {
+
+        private final UnitContentStore store;
+
+        ContentWriter(BeanPropertyWriter base, UnitContentStore store) {
+            super(base);
+            this.store = store;
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            UnitContentRef ref = ((UnitDto) bean).getContentRef();
+            if (ref == null) {
+                super.serializeAsField(bean, gen, prov);
+                return;
+            }
+            gen.writeFieldName(_name);
+            store.write(ref, gen);
+        }
+    }
+}
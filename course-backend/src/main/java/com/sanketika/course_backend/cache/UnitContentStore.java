@@ -0,0 +1,191 @@
+package com.sanketika.course_backend.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitContentRef;
+import com.sanketika.course_backend.dto.UnitDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Large unit bodies kept outside the Java heap. Cached unit and course DTOs
+ * carry a {@link UnitContentRef} instead of the content String, so the L1
+ * caches and Redis hold a few dozen bytes per unit rather than the body, and
+ * the body lives once per node in a direct buffer, already encoded as a
+ * quoted JSON string.
+ *
+ * Responses write the buffer straight to the output stream (see
+ * UnitContentJsonModule). The store is bounded by {@code max-bytes} with
+ * Caffeine's size eviction; a body that was evicted, or cached by another
+ * node, is read back from the database on its next use.
+ */
+@Component
+public class UnitContentStore {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // One entry per unit, so a new version replaces the old body in place.
+    private record Body(long version, ByteBuffer json) {
+    }
+
+    private final Cache<UUID, Body> bodies;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int offloadThreshold;
+
+    public UnitContentStore(JdbcTemplate jdbcTemplate,
+                            @Value("${app.content-store.enabled:true}") boolean enabled,
+                            @Value("${app.content-store.max-bytes:256MB}") DataSize maxBytes,
+                            @Value("${app.content-store.offload-threshold:4096}") int offloadThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.offloadThreshold = offloadThreshold;
+        this.bodies = Caffeine.newBuilder()
+                .maximumWeight(maxBytes.toBytes())
+                .weigher((UUID unitId, Body body) -> body.json().capacity())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Moves the content of every unit of at least {@code offload-threshold}
+     * characters into the store. Call before the DTO is cached or shared.
+     */
+    public void offload(CourseDto course) {
+        if (course == null || course.getUnits() == null) return;
+        for (UnitDto unit : course.getUnits()) {
+            offload(unit);
+        }
+    }
+
+    public void offload(UnitDto unit) {
+        if (!enabled || unit == null || unit.getContent() == null
+                || unit.getId() == null || unit.getVersion() == null
+                || unit.getContent().length() < offloadThreshold) {
+            return;
+        }
+        long version = unit.getVersion();
+        String content = unit.getContent();
+        Body body = bodies.asMap().compute(unit.getId(), (id, existing) ->
+                existing != null && existing.version() >= version ? existing : new Body(version, encode(content)));
+        unit.setContentRef(new UnitContentRef(unit.getId(), version, body.json().capacity()));
+        unit.setContent(null);
+    }
+
+    /**
+     * True if any unit of the course has its content in the store.
+     */
+    public static boolean hasOffloaded(CourseDto course) {
+        if (course.getUnits() == null) return false;
+        for (UnitDto unit : course.getUnits()) {
+            if (unit.getContentRef() != null) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Writes the body as a JSON string value. On a UTF-8 generator the
+     * generator's buffer is flushed and the bytes go straight from the direct
+     * buffer to the underlying stream; any other generator gets the String.
+     * A unit deleted in the meantime is written as null.
+     */
+    public void write(UnitContentRef ref, JsonGenerator gen) throws IOException {
+        ByteBuffer body = body(ref);
+        if (body == null) {
+            gen.writeNull();
+            return;
+        }
+        if (!(gen instanceof UTF8JsonGenerator) || !(gen.getOutputTarget() instanceof OutputStream out)) {
+            gen.writeString(decode(body));
+            return;
+        }
+
+        // An empty raw value writes the separator and moves the generator past the value.
+        gen.writeRawValue("");
+        boolean passFlush = gen.isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        gen.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        try {
+            gen.flush();
+        } finally {
+            if (passFlush) gen.enable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+        if (body.hasArray()) {
+            out.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+            return;
+        }
+        // No per-thread copy buffer, which would pin 8 KB to every virtual thread.
+        WritableByteChannel channel = Channels.newChannel(out);
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, bodies, "unit-content");
+        Gauge.builder("content.store.bytes", this, UnitContentStore::bytes)
+                .description("Unit content held off-heap")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    long bytes() {
+        return bodies.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /**
+     * A read-only view of the unit's body with its own position. A ref older
+     * than the stored body gets the newer body, as the database would give
+     * it; a miss or an older stored body is read from the database.
+     */
+    private ByteBuffer body(UnitContentRef ref) {
+        Body body = bodies.getIfPresent(ref.unitId());
+        if (body == null || body.version() < ref.version()) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT content, version FROM units WHERE id = ?", ref.unitId());
+            if (rows.isEmpty() || rows.get(0).get("content") == null) return null;
+            Body loaded = new Body(((Number) rows.get(0).get("version")).longValue(),
+                    encode((String) rows.get(0).get("content")));
+            body = bodies.asMap().merge(ref.unitId(), loaded,
+                    (existing, fresh) -> existing.version() >= fresh.version() ? existing : fresh);
+        }
+        return body.json().asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer encode(String content) {
+        byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(content);
+        ByteBuffer body = ByteBuffer.allocateDirect(escaped.length + 2);
+        body.put((byte) '"').put(escaped).put((byte) '"');
+        return body.flip();
+    }
+
+    private static String decode(ByteBuffer body) {
+        byte[] json = new byte[body.remaining()];
+        body.get(json);
+        try {
+            return JSON.readValue(json, String.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Corrupt unit content in the content store", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.sanketika.course_backend.config;
+
+import com.sanketika.course_backend.cache.CacheInvalidationBus;
+import com.sanketika.course_backend.cache.CompactCacheSerializer;
+import com.sanketika.course_backend.cache.RedisCacheBatch;
+import com.sanketika.course_backend.cache.TwoTierCacheManager;
+import com.sanketika.course_backend.cache.TwoTierCacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Caches are two-tier: a local Caffeine L1 per node in front of the shared
+ * Redis cache, kept coherent across replicas through Redis pub/sub.
+ */
+@Configuration
+@EnableConfigurationProperties(TwoTierCacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(TwoTierCacheProperties properties) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        valueSerializer(properties.getSerializer())));
+    }
+
+    private static RedisSerializer<?> valueSerializer(TwoTierCacheProperties.Serializer serializer) {
+        return switch (serializer.getFormat()) {
+            case "compact" -> new CompactCacheSerializer(serializer.getCompressThreshold());
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            default -> throw new IllegalStateException("Unknown app.cache.serializer.format: " + serializer.getFormat());
+        };
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     TwoTierCacheProperties properties) {
+        return new CacheInvalidationBus(stringRedisTemplate, properties.getInvalidationChannel());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(invalidationBus.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     TwoTierCacheProperties properties,
+                                     CacheInvalidationBus invalidationBus) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(redisCacheConfiguration)
+                .build();
+        redisCacheManager.afterPropertiesSet();
+        RedisCacheBatch remoteBatch = new RedisCacheBatch(connectionFactory, redisCacheConfiguration);
+        return new TwoTierCacheManager(redisCacheManager, remoteBatch, properties, invalidationBus);
+    }
+}
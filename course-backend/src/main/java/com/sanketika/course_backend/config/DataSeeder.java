@@ -1,12 +1,14 @@
 package com.sanketika.course_backend.config;
 
+import com.sanketika.course_backend.dto.BulkImportResultDto;
 import com.sanketika.course_backend.dto.CourseDto;
 import com.sanketika.course_backend.dto.UnitDto;
 import com.sanketika.course_backend.repositories.CourseRepository;
-import com.sanketika.course_backend.services.CourseService;
+import com.sanketika.course_backend.services.CourseImportService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 // import java.util.Random;
@@ -18,12 +20,12 @@ import java.util.List;
 @Component
 public class DataSeeder implements CommandLineRunner {
 
-    private final CourseService courseService;
+    private final CourseImportService courseImportService;
     private final CourseRepository courseRepository;
     // private final Random random = new Random();
 
-    public DataSeeder(CourseService courseService, CourseRepository courseRepository) {
-        this.courseService = courseService;
+    public DataSeeder(CourseImportService courseImportService, CourseRepository courseRepository) {
+        this.courseImportService = courseImportService;
         this.courseRepository = courseRepository;
     }
 
@@ -243,6 +245,7 @@ public class DataSeeder implements CommandLineRunner {
         );
 
         // Create courses from the data
+        List<CourseDto> courses = new ArrayList<>();
         for (CourseData data : courseDataList) {
             CourseDto dto = new CourseDto();
             dto.setName(data.name);
@@ -253,16 +256,15 @@ public class DataSeeder implements CommandLineRunner {
             dto.setSubject(data.subject);
             dto.setUnits(data.units);
             dto.setStatus("live");
+            courses.add(dto);
+        }
 
-            try {
-            courseService.createCourse(dto);
-                System.out.println("✅ Added: " + dto.getName());
-            } catch (Exception e) {
-                System.err.println("❌ Failed to add: " + dto.getName() + " - " + e.getMessage());
-            }
+        BulkImportResultDto result = courseImportService.importCourses(courses);
+        for (BulkImportResultDto.RowError error : result.getErrors()) {
+            System.err.println("❌ Failed to add: " + error.getName() + " - " + error.getMessage());
         }
 
-        System.out.println("🎉 Seeding completed! Added " + courseDataList.size() + " diverse courses.");
+        System.out.println("🎉 Seeding completed! Added " + result.getInserted() + " diverse courses.");
     }
 
     // Helper class to organize course data
@@ -0,0 +1,71 @@
+package com.sanketika.course_backend.config;
+
+import com.sanketika.course_backend.cache.TwoTierCache;
+import com.sanketika.course_backend.cache.TwoTierCacheManager;
+import com.sanketika.course_backend.cache.TwoTierCacheProperties;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.metrics.RequestJpaCounters;
+import com.sanketika.course_backend.metrics.RequestJpaMetricsInterceptor;
+import com.sanketika.course_backend.metrics.TwoTierCacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application meters on top of what Spring Boot already publishes
+ * (http.server.requests, hikaricp.*, lettuce.command.*, jvm.*).
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * cache.* meters for every configured two-tier cache (courses, course-json, units).
+     */
+    @Bean
+    public MeterBinder twoTierCacheMetrics(TwoTierCacheManager cacheManager, TwoTierCacheProperties properties) {
+        return registry -> properties.getL1().keySet().forEach(name ->
+                new TwoTierCacheMetrics((TwoTierCache) cacheManager.getCache(name)).bindTo(registry));
+    }
+
+    /**
+     * cache.* meters of the off-heap unit content store, and content.store.bytes.
+     */
+    @Bean
+    public MeterBinder unitContentStoreMetrics(UnitContentStore store) {
+        return store::bindTo;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestJpaStatementInspector(RequestJpaCounters counters) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, counters);
+    }
+
+    @Bean
+    public SmartInitializingSingleton requestJpaLoadListener(EntityManagerFactory entityManagerFactory,
+                                                             RequestJpaCounters counters) {
+        return () -> entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, counters);
+    }
+
+    @Bean
+    public WebMvcConfigurer requestJpaMetricsConfigurer(RequestJpaCounters counters, MeterRegistry registry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry interceptors) {
+                interceptors.addInterceptor(new RequestJpaMetricsInterceptor(counters, registry));
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.sanketika.course_backend.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes Postgres jsonb containment to Criteria/HQL as
+ * {@code json_array_contains(column, '["value"]')}. It renders as the {@code @>}
+ * operator rather than a function call, so the GIN indexes on the jsonb
+ * columns can serve it.
+ */
+public class PostgresFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "json_array_contains",
+                "(?1 @> cast(?2 as jsonb))",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.BOOLEAN));
+    }
+}
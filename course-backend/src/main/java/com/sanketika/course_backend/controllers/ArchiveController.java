@@ -0,0 +1,40 @@
+package com.sanketika.course_backend.controllers;
+
+import com.sanketika.course_backend.dto.ArchiveRunDto;
+import com.sanketika.course_backend.dto.ArchiveStatsDto;
+import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.services.CourseArchiveService;
+import com.sanketika.course_backend.utils.ApiEnvelope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+
+    @Autowired
+    private CourseArchiveService courseArchiveService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiEnvelope<ArchiveStatsDto>> getStats() {
+        return ResponseEntity.ok(ResponseMapper.success("api.archive.stats",
+                "Archive stats fetched successfully", courseArchiveService.stats()));
+    }
+
+    /**
+     * Runs the archive job now instead of waiting for its schedule; still
+     * bounded by the configured batch size and batches per run.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/run")
+    public ResponseEntity<ApiEnvelope<ArchiveRunDto>> run() {
+        return ResponseEntity.ok(ResponseMapper.success("api.archive.run",
+                "Archive run completed", courseArchiveService.archiveExpired()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.sanketika.course_backend.controllers;
+
+import com.sanketika.course_backend.cache.CacheTierStats;
+import com.sanketika.course_backend.cache.TwoTierCacheManager;
+import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.utils.ApiEnvelope;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiEnvelope<Map<String, CacheTierStats>>> getStats() {
+        Map<String, CacheTierStats> stats = new TreeMap<>();
+        cacheManager.getCaches().forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return ResponseEntity.ok(ResponseMapper.success("api.cache.stats", "Cache stats fetched successfully", stats));
+    }
+}
@@ -1,20 +1,31 @@
 package com.sanketika.course_backend.controllers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.cache.CourseJsonCache;
+import com.sanketika.course_backend.dto.BulkImportResultDto;
 import com.sanketika.course_backend.dto.CourseDto;
 import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.exceptions.UnsupportedExportFormatException;
 import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.services.CourseArchiveService;
+import com.sanketika.course_backend.services.CourseImportService;
 import com.sanketika.course_backend.services.CourseService;
 import com.sanketika.course_backend.utils.ApiEnvelope;
+import com.sanketika.course_backend.utils.CourseExportWriter;
+import com.sanketika.course_backend.utils.ETags;
+import com.sanketika.course_backend.utils.RawJson;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.UUID;
 
 @RestController
@@ -25,10 +36,13 @@ public class CourseController {
     private CourseService courseService;
 
     @Autowired
-    private HttpServletRequest request;
+    private CourseImportService courseImportService;
+
+    @Autowired
+    private CourseArchiveService courseArchiveService;
 
     @Autowired
-    private ObjectMapper redisObjectMapper;
+    private HttpServletRequest request;
 
     private String autoId() {
         String path = request.getServletPath();
@@ -36,21 +50,82 @@ public class CourseController {
     }
 
     @PostMapping("/list")
-    public ResponseEntity<ApiEnvelope<Page<CourseDto>>> listCourses(@RequestBody CourseListRequest requestBody) {
-        Page<CourseDto> page = courseService.listCourses(requestBody);
-        return ResponseEntity.ok(ResponseMapper.success(autoId(), "Courses fetched successfully", page));
+    public ResponseEntity<ApiEnvelope<?>> listCourses(@RequestBody CourseListRequest requestBody) {
+        return ResponseEntity.ok(ResponseMapper.success(autoId(), "Courses fetched successfully", list(requestBody)));
     }
 
-    @GetMapping("/get/{id}")
-    public ResponseEntity<ApiEnvelope<CourseDto>> getCourseById(@PathVariable UUID id) {
+    /**
+     * The list request as query parameters, so the response can be revalidated:
+     * carries a weak ETag over the filtered set and answers a matching
+     * If-None-Match with 304 before any course is read.
+     */
+    @GetMapping("/list")
+    public ResponseEntity<ApiEnvelope<?>> listCoursesConditional(
+            @ModelAttribute CourseListRequest requestBody,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = courseService.getListETag(requestBody);
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(ResponseMapper.success(autoId(), "Courses fetched successfully", list(requestBody)));
+    }
 
-        Object raw = courseService.getCourseById(id);
-        CourseDto course = redisObjectMapper.convertValue(
-                raw,
-                CourseDto.class);
+    private Object list(CourseListRequest requestBody) {
+        boolean cardView = "card".equalsIgnoreCase(requestBody.getView());
+        if (requestBody.getCursor() != null) {
+            return cardView
+                    ? courseService.scrollCourseCards(requestBody)
+                    : courseService.scrollCourses(requestBody);
+        }
+        return cardView
+                ? courseService.listCourseCards(requestBody)
+                : courseService.listCourses(requestBody);
+    }
 
-        return ResponseEntity.ok(
-                ResponseMapper.success(autoId(), "Course fetched successfully", course));
+    /**
+     * Streams the courses matching a list request, with units, as NDJSON or
+     * CSV. Nothing is buffered: rows go to the response as they are read.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCourses(
+            @RequestBody CourseListRequest requestBody,
+            @RequestParam(defaultValue = CourseExportWriter.NDJSON) String format) {
+        if (!CourseExportWriter.isSupported(format)) {
+            throw new UnsupportedExportFormatException(format);
+        }
+        StreamingResponseBody body = out -> courseService.exportCourses(requestBody, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CourseExportWriter.contentType(format)))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"courses." + format.toLowerCase() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Tagged with the course version, which unit changes also bump. A matching
+     * If-None-Match costs one version lookup and gets 304 with no body. The
+     * course itself is written from its cached JSON bytes.
+     */
+    @GetMapping("/get/{id}")
+    public ResponseEntity<ApiEnvelope<Object>> getCourseById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            String current = ETags.strong(courseService.getCourseVersion(id));
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
+
+        CourseJsonCache.Entry course = courseService.getCourseJson(id);
+        // No cached bytes: the course streams its large unit bodies from the content store.
+        Object data = course.json() != null ? new RawJson(course.json()) : courseService.getCourseById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.strong(course.version()))
+                .body(ResponseMapper.success(autoId(), "Course fetched successfully", data));
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -61,6 +136,18 @@ public class CourseController {
                 ResponseMapper.success(autoId(), "Course created successfully", created));
     }
 
+    /**
+     * Bulk load of courses with units, as a JSON array or as NDJSON (one
+     * CourseDto per line). Invalid rows are reported and skipped.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiEnvelope<BulkImportResultDto>> bulkImport() throws IOException {
+        BulkImportResultDto result = courseImportService.importCourses(request.getInputStream());
+        return ResponseEntity.ok(
+                ResponseMapper.success(autoId(), "Bulk import completed", result));
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     @PutMapping("/update/{id}")
     public ResponseEntity<ApiEnvelope<CourseDto>> updateCourse(
@@ -79,4 +166,15 @@ public class CourseController {
         return ResponseEntity.ok(
                 ResponseMapper.success(autoId(), "Course deleted successfully", null));
     }
+
+    /**
+     * Undoes a delete, whether or not the course has been archived yet.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/restore/{id}")
+    public ResponseEntity<ApiEnvelope<CourseDto>> restoreCourse(@PathVariable UUID id) {
+        courseArchiveService.restore(id);
+        return ResponseEntity.ok(
+                ResponseMapper.success(autoId(), "Course restored successfully", courseService.getCourseById(id)));
+    }
 }
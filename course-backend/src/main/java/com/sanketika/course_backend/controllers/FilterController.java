@@ -1,14 +1,21 @@
 package com.sanketika.course_backend.controllers;
 
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FacetCountsDto;
 import com.sanketika.course_backend.dto.FilterOptionsDto;
 import com.sanketika.course_backend.dto.FilterRequestDto;
 import com.sanketika.course_backend.enums.Board;
 import com.sanketika.course_backend.enums.Grade;
 import com.sanketika.course_backend.enums.Medium;
 import com.sanketika.course_backend.enums.Subject;
+import com.sanketika.course_backend.index.FilterCascadeIndex;
+import com.sanketika.course_backend.mapper.ResponseMapper;
 import com.sanketika.course_backend.repositories.CourseRepository;
+import com.sanketika.course_backend.services.CourseService;
+import com.sanketika.course_backend.utils.ApiEnvelope;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
@@ -21,8 +28,20 @@ public class FilterController {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private FilterCascadeIndex filterCascadeIndex;
+
+    // The cascade endpoints are served from FilterCascadeIndex once it is built;
+    // the DISTINCT queries only run while it is loading or when it is disabled.
+
     @GetMapping("/boards")
     public ResponseEntity<List<String>> getBoards() {
+        if (filterCascadeIndex.isReady()) {
+            return ResponseEntity.ok(filterCascadeIndex.boards());
+        }
         return ResponseEntity.ok(
                 courseRepository.findDistinctBoards()
         );
@@ -30,6 +49,9 @@ public class FilterController {
 
     @PostMapping("/mediums")
     public ResponseEntity<List<String>> getMediumsByBoard(@RequestBody FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return ResponseEntity.ok(filterCascadeIndex.mediums(request.getBoard()));
+        }
         return ResponseEntity.ok(
                 courseRepository.findDistinctMediumByBoard(request.getBoard())
         );
@@ -37,6 +59,9 @@ public class FilterController {
 
     @PostMapping("/grades")
     public ResponseEntity<List<String>> getGrades(@RequestBody FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return ResponseEntity.ok(filterCascadeIndex.grades(request.getBoard(), request.getMedium()));
+        }
         return ResponseEntity.ok(
                 courseRepository.findDistinctGradeByBoardAndMediums(
                         request.getBoard(),
@@ -47,6 +72,10 @@ public class FilterController {
 
     @PostMapping("/subjects")
     public ResponseEntity<List<String>> getSubjects(@RequestBody FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return ResponseEntity.ok(filterCascadeIndex.subjects(
+                    request.getBoard(), request.getMedium(), request.getGrade()));
+        }
         return ResponseEntity.ok(
                 courseRepository.findDistinctSubjectsByBoardMediumsAndGrades(
                         request.getBoard(),
@@ -56,6 +85,29 @@ public class FilterController {
         );
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/cascade/rebuild")
+    public ResponseEntity<ApiEnvelope<Void>> rebuildCascade() {
+        filterCascadeIndex.rebuild();
+        return ResponseEntity.ok(ResponseMapper.success("api.filters.cascade.rebuild", "Filter cascade rebuilt", null));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cascade/verify")
+    public ResponseEntity<ApiEnvelope<FilterCascadeIndex.CheckResult>> verifyCascade() {
+        return ResponseEntity.ok(ResponseMapper.success("api.filters.cascade.verify",
+                "Filter cascade compared with the database", filterCascadeIndex.verify()));
+    }
+
+    /**
+     * Per-value counts of the courses matching a list request, so the filter
+     * panel can be filled in one call instead of one DISTINCT query per facet.
+     */
+    @PostMapping("/facets")
+    public ResponseEntity<FacetCountsDto> getFacetCounts(@RequestBody CourseListRequest request) {
+        return ResponseEntity.ok(courseService.getFacetCounts(request));
+    }
+
   @GetMapping("/options")
 public ResponseEntity<FilterOptionsDto> getFilterOptions() {
 
@@ -1,13 +1,29 @@
 package com.sanketika.course_backend.controllers;
 
+import com.sanketika.course_backend.dto.KeysetSlice;
+import com.sanketika.course_backend.dto.UnitBatchRequest;
+import com.sanketika.course_backend.dto.UnitBatchResultDto;
 import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitListRequest;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
 import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.services.UnitBatchService;
+import com.sanketika.course_backend.services.UnitContentResource;
 import com.sanketika.course_backend.services.UnitService;
 import com.sanketika.course_backend.utils.ApiEnvelope;
+import com.sanketika.course_backend.utils.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,13 +31,22 @@ import java.util.UUID;
 @RequestMapping("/api/units")
 public class UnitController {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
     @Autowired
     private UnitService unitService;
 
+    @Autowired
+    private UnitBatchService unitBatchService;
+
+    /**
+     * One keyset page of unit summaries, optionally filtered by courseId and
+     * title; pass the nextCursor of a page as cursor to get the next one.
+     */
     @GetMapping
-    public ResponseEntity<ApiEnvelope<List<UnitDto>>> getAllUnits() {
-        List<UnitDto> units = unitService.getAllUnits();
-        ApiEnvelope<List<UnitDto>> response = ResponseMapper.success(
+    public ResponseEntity<ApiEnvelope<KeysetSlice<UnitSummaryDto>>> getAllUnits(@ModelAttribute UnitListRequest request) {
+        KeysetSlice<UnitSummaryDto> units = unitService.listUnits(request);
+        ApiEnvelope<KeysetSlice<UnitSummaryDto>> response = ResponseMapper.success(
                 "api.unit.list",
                 "Units fetched successfully",
                 units
@@ -29,27 +54,93 @@ public class UnitController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Every unit summary matching the same filters as NDJSON, for full scans.
+     * Rows are written as they are read; nothing is buffered.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUnits(@ModelAttribute UnitListRequest request) {
+        StreamingResponseBody body = out -> unitService.exportUnits(request, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Tagged with the course version; a unit change bumps it.
+     */
     @GetMapping("/course/get/{courseId}")
-    public ResponseEntity<ApiEnvelope<List<UnitDto>>> getUnitsByCourse(@PathVariable UUID courseId) {
-        List<UnitDto> units = unitService.getUnitsByCourse(courseId);
-        ApiEnvelope<List<UnitDto>> response = ResponseMapper.success(
+    public ResponseEntity<ApiEnvelope<List<UnitSummaryDto>>> getUnitsByCourse(
+            @PathVariable UUID courseId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = ETags.strong(unitService.getUnitsVersion(courseId));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        List<UnitSummaryDto> units = unitService.getUnitsByCourse(courseId);
+        ApiEnvelope<List<UnitSummaryDto>> response = ResponseMapper.success(
                 "api.unit.list",
                 "Units fetched successfully",
                 units
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(etag).body(response);
     }
 
 
     @GetMapping("/get/{id}")
-    public ResponseEntity<ApiEnvelope<UnitDto>> getUnitById(@PathVariable UUID id) {
+    public ResponseEntity<ApiEnvelope<UnitDto>> getUnitById(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String current = ETags.strong(unitService.getUnitVersion(id));
+            if (ETags.matches(ifNoneMatch, current)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+            }
+        }
         UnitDto unit = unitService.getUnitById(id);
         ApiEnvelope<UnitDto> response = ResponseMapper.success(
                 "api.unit.get",
                 "Unit fetched successfully",
                 unit
         );
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(ETags.strong(unit.getVersion())).body(response);
+    }
+
+    /**
+     * The unit body as plain UTF-8 text, tagged with the unit version. A Range
+     * header gets a 206 with only the requested bytes (multipart/byteranges
+     * for several ranges, 416 if none can be satisfied); with an If-Range that
+     * no longer matches, the whole body is sent instead.
+     */
+    @GetMapping("/{id}/content")
+    public ResponseEntity<Resource> getUnitContent(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range) {
+        UnitContentResource content = unitService.getUnitContent(id);
+        String etag = ETags.strong(content.getVersion());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).contentType(TEXT_PLAIN_UTF8);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            // Spring answers Range requests for any Resource body but an InputStreamResource.
+            return response.contentLength(content.contentLength())
+                    .body(new InputStreamResource(content.getInputStream()));
+        }
+        if (range != null) {
+            // Spring would send the whole body along with its 416.
+            try {
+                HttpRange.toResourceRegions(HttpRange.parseRanges(range), content);
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + content.contentLength())
+                        .build();
+            }
+        }
+        return response.body(content);
     }
 
     @PostMapping("/add")
@@ -64,6 +155,21 @@ public class UnitController {
     }
 
 
+    /**
+     * Creates, updates and deletes units of one or more courses in a single
+     * transaction; an invalid operation rejects the whole batch.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiEnvelope<UnitBatchResultDto>> applyBatch(@RequestBody UnitBatchRequest request) {
+        UnitBatchResultDto result = unitBatchService.apply(request);
+        ApiEnvelope<UnitBatchResultDto> response = ResponseMapper.success(
+                "api.unit.batch",
+                "Unit batch applied successfully",
+                result
+        );
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/update/{id}")
     public ResponseEntity<ApiEnvelope<UnitDto>> updateUnit(@PathVariable UUID id, @RequestBody UnitDto dto) {
         UnitDto updated = unitService.updateUnit(id, dto);
@@ -0,0 +1,21 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one archive run: what was moved out of the live tables, in how
+ * many batches. Courses deleted before the cutoff were eligible.
+ */
+@Data
+public class ArchiveRunDto {
+    private LocalDateTime cutoff;
+    private long courses;
+    private long units;
+    private int batches;
+    private boolean complete;
+    private long elapsedMs;
+
+    public ArchiveRunDto() {}
+}
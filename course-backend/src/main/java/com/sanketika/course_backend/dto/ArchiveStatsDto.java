@@ -0,0 +1,37 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size of the live and archive tables, and how many soft-deleted courses are
+ * still in the live tables (of which archivable: past the retention).
+ */
+@Data
+public class ArchiveStatsDto {
+    private long deletedCourses;
+    private long archivableCourses;
+    private List<TableStats> tables = new ArrayList<>();
+
+    public ArchiveStatsDto() {}
+
+    /**
+     * Row counts are the statistics collector's estimates. Table bytes include
+     * TOAST; dead rows are reclaimed by (auto)vacuum.
+     */
+    @Data
+    public static class TableStats {
+        private String table;
+        private long liveRows;
+        private long deadRows;
+        private long tableBytes;
+        private long indexBytes;
+        private Map<String, Long> indexes = new LinkedHashMap<>();
+
+        public TableStats() {}
+    }
+}
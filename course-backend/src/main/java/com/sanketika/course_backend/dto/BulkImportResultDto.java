@@ -0,0 +1,42 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk course import. Rows are numbered from 0 in the order they
+ * appear in the payload.
+ */
+@Data
+public class BulkImportResultDto {
+    private long received;
+    private long inserted;
+    private long failed;
+    private long elapsedMs;
+    private double rowsPerSecond;
+    private List<RowError> errors = new ArrayList<>();
+
+    public BulkImportResultDto() {}
+
+    public void addError(long row, String name, String message) {
+        failed++;
+        errors.add(new RowError(row, name, message));
+    }
+
+    @Data
+    public static class RowError {
+        private long row;
+        private String name;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long row, String name, String message) {
+            this.row = row;
+            this.name = name;
+            this.message = message;
+        }
+    }
+}
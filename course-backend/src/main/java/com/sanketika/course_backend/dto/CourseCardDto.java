@@ -0,0 +1,30 @@
+package com.sanketika.course_backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The "card" view of a course for catalog grids: no description, no units.
+ */
+@Data
+public class CourseCardDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private UUID id;
+    private String name;
+    private String board;
+    private List<String> medium;
+    private List<String> grade;
+    private List<String> subject;
+    private String status;
+
+    // Only needed to build keyset cursors.
+    @JsonIgnore
+    private LocalDateTime createdAt;
+
+    public CourseCardDto() {}
+}
@@ -31,5 +31,7 @@ public class CourseDto implements Serializable {
 
     private String status;
 
+    private Long version;
+
     public CourseDto() {}
 }
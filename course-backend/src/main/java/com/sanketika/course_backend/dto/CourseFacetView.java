@@ -0,0 +1,20 @@
+package com.sanketika.course_backend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projection of the columns the facet index needs, so a rebuild never loads
+ * descriptions or units.
+ */
+public interface CourseFacetView {
+    UUID getId();
+    long getVersion();
+    String getBoard();
+    String getStatus();
+    List<String> getMedium();
+    List<String> getGrade();
+    List<String> getSubject();
+    LocalDateTime getCreatedAt();
+}
@@ -13,4 +13,11 @@ public class CourseListRequest {
     private List<String> mediums;
     private List<String> grades;
     private List<String> subjects;
+
+    // "full" (default) returns CourseDto with units; "card" returns CourseCardDto.
+    private String view = "full";
+
+    // Keyset mode: send "" for the first page, then the nextCursor of the previous
+    // response. Leave null to use page/size.
+    private String cursor;
 }
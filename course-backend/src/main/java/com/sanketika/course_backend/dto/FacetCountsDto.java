@@ -0,0 +1,40 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Number of matching courses per facet value. A course with several mediums
+ * (or grades, subjects) counts once under each of them.
+ */
+@Data
+public class FacetCountsDto {
+    private long total;
+    private Map<String, Long> boards = new TreeMap<>();
+    private Map<String, Long> mediums = new TreeMap<>();
+    private Map<String, Long> grades = new TreeMap<>();
+    private Map<String, Long> subjects = new TreeMap<>();
+    private Map<String, Long> statuses = new TreeMap<>();
+
+    public FacetCountsDto() {}
+
+    /**
+     * Tallies one matching course.
+     */
+    public void add(String board, String status, List<String> medium, List<String> grade, List<String> subject) {
+        total++;
+        increment(boards, board);
+        increment(statuses, status);
+        if (medium != null) medium.forEach(value -> increment(mediums, value));
+        if (grade != null) grade.forEach(value -> increment(grades, value));
+        if (subject != null) subject.forEach(value -> increment(subjects, value));
+    }
+
+    private static void increment(Map<String, Long> counts, String value) {
+        if (value == null || value.isBlank()) return;
+        counts.merge(value, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,26 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One keyset page of courses or units. Unlike {@code Page}, it carries no total count.
+ */
+@Data
+public class KeysetSlice<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public KeysetSlice() {
+    }
+
+    public KeysetSlice(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
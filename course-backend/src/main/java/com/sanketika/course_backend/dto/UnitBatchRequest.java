@@ -0,0 +1,35 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Unit changes applied together by POST /api/units/batch. A unit may appear
+ * in only one update or delete operation of a batch.
+ */
+@Data
+public class UnitBatchRequest {
+    private List<Operation> operations = new ArrayList<>();
+
+    public UnitBatchRequest() {}
+
+    @Data
+    public static class Operation {
+        // "create", "update" or "delete".
+        private String op;
+
+        // The unit to update or delete; ignored for create.
+        private UUID id;
+
+        // Create and update: the new title and content, and the parent course.
+        // An update without courseId keeps the unit's current course.
+        private String title;
+        private String content;
+        private UUID courseId;
+
+        public Operation() {}
+    }
+}
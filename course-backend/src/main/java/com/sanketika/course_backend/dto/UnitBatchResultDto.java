@@ -0,0 +1,38 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a unit batch: one result per operation, in request order.
+ * Deleted units have no version.
+ */
+@Data
+public class UnitBatchResultDto {
+    private long created;
+    private long updated;
+    private long deleted;
+    private List<OperationResult> results = new ArrayList<>();
+
+    public UnitBatchResultDto() {}
+
+    @Data
+    public static class OperationResult {
+        private int index;
+        private String op;
+        private UUID id;
+        private Long version;
+
+        public OperationResult() {}
+
+        public OperationResult(int index, String op, UUID id, Long version) {
+            this.index = index;
+            this.op = op;
+            this.id = id;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.sanketika.course_backend.dto;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * A unit body held off-heap in UnitContentStore instead of in
+ * {@link UnitDto#getContent()}: the unit and version it was read at, and its
+ * size as a JSON string in bytes.
+ */
+public record UnitContentRef(UUID unitId, long version, int length) implements Serializable {
+}
@@ -13,7 +13,10 @@ public class UnitDto implements Serializable {
     @NotBlank(message = "Title is required")
     private String title;
     private String content;
+    // Set instead of content once the body is moved to UnitContentStore.
+    private UnitContentRef contentRef;
     private UUID courseId;
+    private Long version;
 
     public UnitDto(){
 
@@ -23,4 +26,12 @@ public class UnitDto implements Serializable {
         this.title = title;
         this.content = content;
     }
+
+    public UnitDto(UUID id, String title, String content, UUID courseId, Long version) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.courseId = courseId;
+        this.version = version;
+    }
 }
@@ -0,0 +1,17 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class UnitListRequest {
+    // Optional filters: units of one course, and a case-insensitive title match.
+    private UUID courseId;
+    private String title;
+
+    private int size = 50;
+
+    // The nextCursor of the previous page; leave empty for the first page.
+    private String cursor;
+}
@@ -0,0 +1,34 @@
+package com.sanketika.course_backend.dto;
+
+import lombok.Data;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The table-of-contents view of a unit for unit lists: no body, only its size
+ * in bytes. The body is served by GET /api/units/{id}/content.
+ */
+@Data
+public class UnitSummaryDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private UUID id;
+    private String title;
+    private UUID courseId;
+    private Long version;
+    private Integer contentLength;
+    private LocalDateTime createdAt;
+
+    public UnitSummaryDto() {}
+
+    public UnitSummaryDto(UUID id, String title, UUID courseId, Long version, Integer contentLength,
+                          LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.courseId = courseId;
+        this.version = version;
+        this.contentLength = contentLength;
+        this.createdAt = createdAt;
+    }
+}
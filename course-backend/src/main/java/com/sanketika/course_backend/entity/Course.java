@@ -1,11 +1,12 @@
 package com.sanketika.course_backend.entity;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
-import com.sanketika.course_backend.utils.StringListConverter;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,6 +15,7 @@ import java.util.UUID;
 
 @Entity
 @Data
+// The list indexes are partial (WHERE deleted = false) and live in db/migrations.sql.
 @Table(name = "courses")
 public class Course {
     @Id
@@ -23,16 +25,16 @@ public class Course {
     private String description;
     private String board;
 
-    @Column
-    @Convert(converter = StringListConverter.class)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
     private List<String> medium;
 
-    @Column
-    @Convert(converter = StringListConverter.class)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
     private List<String> grade;
 
-    @Column
-    @Convert(converter = StringListConverter.class)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
     private List<String> subject;
 
     @CreationTimestamp
@@ -51,6 +53,14 @@ public class Course {
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
 
+    // When the course was soft-deleted; CourseArchiveService moves it out of
+    // the live tables once this is older than the retention.
+    private LocalDateTime deletedAt;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public Course(){
     }
 
@@ -18,6 +18,11 @@ public class Unit {
     @GeneratedValue
     private UUID id;
     private String title;
+
+    // Lazy (needs the build-time bytecode enhancement in pom.xml): loading a
+    // unit does not read its body; DTO projections select it when needed.
+    @Basic(fetch = FetchType.LAZY)
+    @Column(columnDefinition = "text")
     private String content;
 
     @CreationTimestamp
@@ -32,6 +37,10 @@ public class Unit {
     @JsonBackReference
     private Course course;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
     public Unit(){
 
     }
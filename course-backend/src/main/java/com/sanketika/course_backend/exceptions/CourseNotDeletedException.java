@@ -0,0 +1,7 @@
+package com.sanketika.course_backend.exceptions;
+
+public class CourseNotDeletedException extends RuntimeException {
+    public CourseNotDeletedException(String message) {
+        super(message);
+    }
+}
@@ -52,6 +52,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    // -----------------------------
+    // Handle requests that conflict with the resource's state
+    // -----------------------------
+    @ExceptionHandler(CourseNotDeletedException.class)
+    public ResponseEntity<ApiEnvelope<Void>> handleConflict(CourseNotDeletedException ex) {
+        ApiEnvelope<Void> response = new ApiEnvelope<>();
+        response.setId("api.error");
+        response.setVer("v1");
+        response.setTs(Instant.now().toString());
+        response.getParams().setMsgid(UUID.randomUUID().toString());
+        response.getParams().setStatus("failed");
+        response.getParams().setErr("CONFLICT");
+        response.getParams().setErrmsg(ex.getMessage());
+        response.setResponseCode("CONFLICT");
+        response.setResult(null);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     // -----------------------------
     // Handle invalid URL
     // -----------------------------
@@ -87,6 +106,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    // -----------------------------
+    // Handle request values the API does not accept
+    // -----------------------------
+    @ExceptionHandler({InvalidCursorException.class, UnsupportedExportFormatException.class,
+            InvalidUnitBatchException.class})
+    public ResponseEntity<ApiEnvelope<Void>> handleBadRequest(RuntimeException ex) {
+        ApiEnvelope<Void> response = new ApiEnvelope<>();
+        response.setId("api.error");
+        response.setVer("v1");
+        response.setTs(Instant.now().toString());
+        response.getParams().setMsgid(UUID.randomUUID().toString());
+        response.getParams().setStatus("failed");
+        response.getParams().setErr("BAD_REQUEST");
+        response.getParams().setErrmsg(ex.getMessage());
+        response.setResponseCode("BAD_REQUEST");
+        response.setResult(null);
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     // -----------------------------
     // Handle runtime errors
     // -----------------------------
@@ -0,0 +1,7 @@
+package com.sanketika.course_backend.exceptions;
+
+public class InvalidUnitBatchException extends RuntimeException {
+    public InvalidUnitBatchException(String message) {
+        super(message);
+    }
+}
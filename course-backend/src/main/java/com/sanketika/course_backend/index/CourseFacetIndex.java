@@ -0,0 +1,469 @@
+package com.sanketika.course_backend.index;
+
+import com.sanketika.course_backend.dto.CourseFacetView;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FacetCountsDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.repositories.CourseRepository;
+import com.sanketika.course_backend.utils.TransactionHooks;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory facet index over live (non-deleted) courses.
+ *
+ * Every course gets an int ordinal in (createdAt, id) order, and each
+ * board / medium / grade / subject / status value keeps a roaring bitmap of the
+ * ordinals carrying it. A list filter becomes an OR within a facet and an AND
+ * across facets, and walking the result bitmap from the highest ordinal down
+ * yields courses newest-first, in the order of the SQL listings, without
+ * touching the database.
+ *
+ * New courses normally append. One that sorts before the newest (a restored
+ * course, or commits landing out of createdAt order) shifts the ordinals
+ * after it up by one. Ordinals of removed courses are reclaimed by
+ * renumbering once they make up a quarter of the index.
+ *
+ * Each course's last applied version is kept, removals included, so a commit
+ * hook that runs after a newer one, or a queued write already in a rebuild's
+ * snapshot, is ignored instead of bringing back an older state.
+ */
+@Component
+public class CourseFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseFacetIndex.class);
+
+    public enum Facet { BOARD, MEDIUM, GRADE, SUBJECT, STATUS }
+
+    public record Result(List<UUID> ids, long total) {
+    }
+
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings current = new Postings();
+    private List<Doc> pending;
+    private volatile boolean ready = false;
+
+    public CourseFacetIndex(CourseRepository courseRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.facet-index.enabled:true}") boolean enabled) {
+        this.courseRepository = courseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads the index from the courses table. Writes that land while the
+     * snapshot is being read are queued and replayed on top of it.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        Postings fresh = new Postings();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<CourseFacetView> rows = courseRepository.streamLiveFacets()) {
+                    rows.forEach(row -> fresh.apply(Doc.of(row)));
+                }
+            });
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : pending) {
+                fresh.apply(doc);
+            }
+            pending = null;
+            current = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Facet index built with {} courses in {} ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Records the state of a saved course once the current transaction commits.
+     * The course must be flushed, so that it carries the version it commits at.
+     */
+    public void index(Course course) {
+        if (!enabled) return;
+        Doc doc = Doc.of(course);
+        TransactionHooks.afterCommit(() -> write(List.of(doc)));
+    }
+
+    /**
+     * Same as {@link #index(Course)} for a batch of courses, applied under a
+     * single lock acquisition.
+     */
+    public void indexAll(Collection<Course> courses) {
+        if (!enabled || courses.isEmpty()) return;
+        List<Doc> docs = courses.stream().map(Doc::of).toList();
+        TransactionHooks.afterCommit(() -> write(docs));
+    }
+
+    /**
+     * Resolves the facet filters of a list request to the requested page of
+     * course IDs, newest first, plus the total number of matches.
+     */
+    public Result findPage(CourseListRequest request, Collection<String> statuses, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = current.match(request, statuses);
+            long total = candidates.getLongCardinality();
+            List<UUID> ids = new ArrayList<>(limit);
+            for (long i = offset; i < offset + limit && i < total; i++) {
+                int ordinal = candidates.select((int) (total - 1 - i));
+                ids.add(current.id(ordinal));
+            }
+            return new Result(ids, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the courses matching the facet filters of a list request per
+     * board / medium / grade / subject / status value, by intersecting the
+     * match with each value's bitmap.
+     */
+    public FacetCountsDto countFacets(CourseListRequest request, Collection<String> statuses) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap candidates = current.match(request, statuses);
+            FacetCountsDto counts = new FacetCountsDto();
+            counts.setTotal(candidates.getLongCardinality());
+            current.count(Facet.BOARD, candidates, counts.getBoards());
+            current.count(Facet.MEDIUM, candidates, counts.getMediums());
+            current.count(Facet.GRADE, candidates, counts.getGrades());
+            current.count(Facet.SUBJECT, candidates, counts.getSubjects());
+            current.count(Facet.STATUS, candidates, counts.getStatuses());
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ordinals in use, freed ones included; for tests.
+    int slots() {
+        lock.readLock().lock();
+        try {
+            return current.keys.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(List<Doc> docs) {
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : docs) {
+                current.apply(doc);
+            }
+            if (pending != null) {
+                pending.addAll(docs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sort key of a course in the index, the order of the SQL listings.
+     * Postgres keeps microseconds, so a rebuild reads back the same key, and
+     * compares uuids as unsigned bytes, unlike UUID.compareTo.
+     */
+    private record Key(LocalDateTime createdAt, UUID id) implements Comparable<Key> {
+
+        static Key of(LocalDateTime createdAt, UUID id) {
+            return new Key(createdAt != null ? createdAt.truncatedTo(ChronoUnit.MICROS) : LocalDateTime.MIN, id);
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            int byTime = createdAt.compareTo(other.createdAt);
+            if (byTime != 0) return byTime;
+            int byHigh = Long.compareUnsigned(id.getMostSignificantBits(), other.id.getMostSignificantBits());
+            return byHigh != 0 ? byHigh : Long.compareUnsigned(id.getLeastSignificantBits(), other.id.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Snapshot of the indexed attributes of one course at a version, or a
+     * removal marker.
+     */
+    private record Doc(UUID id, long version, LocalDateTime createdAt, boolean removed, String board, String status,
+                       List<String> medium, List<String> grade, List<String> subject) {
+
+        static Doc of(Course course) {
+            if (course.isDeleted()) {
+                return new Doc(course.getId(), course.getVersion(), null, true, null, null, null, null, null);
+            }
+            return new Doc(course.getId(), course.getVersion(), course.getCreatedAt(), false,
+                    course.getBoard(), course.getStatus(),
+                    copy(course.getMedium()), copy(course.getGrade()), copy(course.getSubject()));
+        }
+
+        static Doc of(CourseFacetView row) {
+            return new Doc(row.getId(), row.getVersion(), row.getCreatedAt(), false, row.getBoard(), row.getStatus(),
+                    row.getMedium(), row.getGrade(), row.getSubject());
+        }
+
+        Key key() {
+            return Key.of(createdAt, id);
+        }
+
+        private static List<String> copy(List<String> values) {
+            return values == null ? List.of() : new ArrayList<>(values);
+        }
+    }
+
+    private static final class Postings {
+        // Removed ordinals are renumbered away once they make up this share of the index.
+        private static final int COMPACT_MIN_FREE = 1024;
+        private static final int COMPACT_FREE_DIVISOR = 4;
+
+        // Sort key per ordinal, strictly ascending; keys of removed courses
+        // stay until the next compaction so the order is never broken.
+        private List<Key> keys = new ArrayList<>();
+        private final Map<UUID, Integer> ordinals = new HashMap<>();
+        // Last applied version per course; removed ones stay as tombstones
+        // until the next rebuild.
+        private final Map<UUID, Long> versions = new HashMap<>();
+        private RoaringBitmap live = new RoaringBitmap();
+        private final Map<Facet, Map<String, RoaringBitmap>> postings = new EnumMap<>(Facet.class);
+
+        Postings() {
+            for (Facet facet : Facet.values()) {
+                postings.put(facet, new HashMap<>());
+            }
+        }
+
+        int size() {
+            return live.getCardinality();
+        }
+
+        UUID id(int ordinal) {
+            return keys.get(ordinal).id();
+        }
+
+        void apply(Doc doc) {
+            Long applied = versions.get(doc.id());
+            if (applied != null && applied >= doc.version()) return;
+            versions.put(doc.id(), doc.version());
+            if (doc.removed()) {
+                remove(doc.id());
+            } else {
+                upsert(doc);
+            }
+        }
+
+        private void upsert(Doc doc) {
+            Integer ordinal = ordinals.get(doc.id());
+            if (ordinal != null) {
+                // createdAt never changes, so the course keeps its place.
+                clear(ordinal);
+            } else {
+                ordinal = place(doc.key());
+                ordinals.put(doc.id(), ordinal);
+            }
+            live.add(ordinal);
+            add(Facet.BOARD, doc.board(), ordinal);
+            add(Facet.STATUS, doc.status(), ordinal);
+            addAll(Facet.MEDIUM, doc.medium(), ordinal);
+            addAll(Facet.GRADE, doc.grade(), ordinal);
+            addAll(Facet.SUBJECT, doc.subject(), ordinal);
+        }
+
+        private void remove(UUID id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) return;
+            clear(ordinal);
+            int free = keys.size() - live.getCardinality();
+            if (free >= COMPACT_MIN_FREE && free >= keys.size() / COMPACT_FREE_DIVISOR) {
+                compact();
+            }
+        }
+
+        /**
+         * The ordinal for a new key: appended after the newest, the free slot
+         * the same course held before, or a slot opened by shifting every
+         * later ordinal up by one.
+         */
+        private int place(Key key) {
+            int size = keys.size();
+            if (size == 0 || key.compareTo(keys.get(size - 1)) > 0) {
+                keys.add(key);
+                return size;
+            }
+            int found = Collections.binarySearch(keys, key);
+            if (found >= 0) {
+                // Removed and added back before a compaction: its old slot is still free.
+                return found;
+            }
+            int position = -found - 1;
+            keys.add(position, key);
+            shiftFrom(live, position);
+            for (Map<String, RoaringBitmap> byValue : postings.values()) {
+                byValue.values().forEach(bitmap -> shiftFrom(bitmap, position));
+            }
+            for (int ordinal = position + 1; ordinal < keys.size(); ordinal++) {
+                if (live.contains(ordinal)) {
+                    ordinals.put(keys.get(ordinal).id(), ordinal);
+                }
+            }
+            return position;
+        }
+
+        /**
+         * Renumbers the live courses to 0..n-1, dropping the keys of removed ones.
+         */
+        private void compact() {
+            int[] renumbered = new int[keys.size()];
+            List<Key> compacted = new ArrayList<>(live.getCardinality());
+            for (int ordinal : live) {
+                renumbered[ordinal] = compacted.size();
+                Key key = keys.get(ordinal);
+                ordinals.put(key.id(), compacted.size());
+                compacted.add(key);
+            }
+            keys = compacted;
+            live = renumber(live, renumbered);
+            for (Map<String, RoaringBitmap> byValue : postings.values()) {
+                byValue.replaceAll((value, bitmap) -> renumber(bitmap, renumbered));
+            }
+        }
+
+        RoaringBitmap match(CourseListRequest request, Collection<String> statuses) {
+            RoaringBitmap result = live.clone();
+            result.and(anyOf(Facet.STATUS, statuses));
+            narrow(result, Facet.BOARD, request.getBoards());
+            narrow(result, Facet.MEDIUM, request.getMediums());
+            narrow(result, Facet.GRADE, request.getGrades());
+            narrow(result, Facet.SUBJECT, request.getSubjects());
+            return result;
+        }
+
+        // Blank values are ignored and an all-blank list means "no filter",
+        // matching the Specification path in CourseServiceImpl.
+        private void narrow(RoaringBitmap result, Facet facet, List<String> values) {
+            if (values == null || values.stream().allMatch(v -> v == null || v.isBlank())) {
+                return;
+            }
+            result.and(anyOf(facet, values));
+        }
+
+        void count(Facet facet, RoaringBitmap candidates, Map<String, Long> into) {
+            postings.get(facet).forEach((value, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(bitmap, candidates);
+                if (count > 0) {
+                    into.put(value, count);
+                }
+            });
+        }
+
+        private RoaringBitmap anyOf(Facet facet, Collection<String> values) {
+            Map<String, RoaringBitmap> byValue = postings.get(facet);
+            RoaringBitmap union = new RoaringBitmap();
+            for (String value : values) {
+                if (skipped(value)) continue;
+                RoaringBitmap bitmap = byValue.get(value);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            return union;
+        }
+
+        private void add(Facet facet, String value, int ordinal) {
+            if (skipped(value)) return;
+            postings.get(facet).computeIfAbsent(value, k -> new RoaringBitmap()).add(ordinal);
+        }
+
+        private void addAll(Facet facet, List<String> values, int ordinal) {
+            if (values == null) return;
+            for (String value : values) {
+                add(facet, value, ordinal);
+            }
+        }
+
+        // The one rule both paths apply (see CourseServiceImpl.buildSpecification):
+        // values match exactly, and blank ones are ignored.
+        private static boolean skipped(String value) {
+            return value == null || value.isBlank();
+        }
+
+        private void clear(int ordinal) {
+            live.remove(ordinal);
+            postings.values().forEach(byValue -> byValue.values().removeIf(bitmap -> {
+                bitmap.remove(ordinal);
+                return bitmap.isEmpty();
+            }));
+        }
+
+        // Moves every ordinal >= from up by one.
+        private static void shiftFrom(RoaringBitmap bitmap, int from) {
+            if (bitmap.isEmpty() || bitmap.last() < from) return;
+            long end = (long) bitmap.last() + 1;
+            RoaringBitmap tail = RoaringBitmap.and(bitmap, RoaringBitmap.bitmapOfRange(from, end));
+            bitmap.remove((long) from, end);
+            bitmap.or(RoaringBitmap.addOffset(tail, 1));
+        }
+
+        private static RoaringBitmap renumber(RoaringBitmap bitmap, int[] renumbered) {
+            int[] ordinals = bitmap.toArray();
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = renumbered[ordinals[i]];
+            }
+            // Renumbering keeps the order, so the array is still sorted.
+            return RoaringBitmap.bitmapOf(ordinals);
+        }
+    }
+}
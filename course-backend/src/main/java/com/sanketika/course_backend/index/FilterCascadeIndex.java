@@ -0,0 +1,359 @@
+package com.sanketika.course_backend.index;
+
+import com.sanketika.course_backend.dto.CourseFacetView;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.repositories.CourseRepository;
+import com.sanketika.course_backend.utils.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * In-memory board → medium → grade → subject trie behind the cascading filter
+ * dropdowns, covering live (non-deleted) courses.
+ *
+ * Each course adds one path per medium × grade × subject combination and every
+ * node counts the paths running through it, so an update or soft delete can
+ * take back exactly what the course contributed and prune nodes that drop to
+ * zero. A course with no mediums (or grades, subjects) is filed under a blank
+ * key at that level: it is never listed, but still reached when the request
+ * leaves that level unfiltered, as in the SQL queries.
+ *
+ * Like {@link CourseFacetIndex}, the trie keeps each course's last applied
+ * version, removals included, and ignores older docs from hooks that run out
+ * of order or from a rebuild's queued writes.
+ */
+@Component
+public class FilterCascadeIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(FilterCascadeIndex.class);
+
+    private static final String NONE = "";
+
+    public record Mismatch(String query, List<String> expected, List<String> actual) {
+    }
+
+    public record CheckResult(int queries, List<Mismatch> mismatches) {
+    }
+
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie current = new Trie();
+    private List<Doc> pending;
+    private volatile boolean ready = false;
+
+    public FilterCascadeIndex(CourseRepository courseRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${app.filter-cascade.enabled:true}") boolean enabled) {
+        this.courseRepository = courseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads the trie from the courses table. Writes that land while the
+     * snapshot is being read are queued and replayed on top of it.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.currentTimeMillis();
+        Trie fresh = new Trie();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<CourseFacetView> rows = courseRepository.streamLiveFacets()) {
+                    rows.forEach(row -> fresh.apply(Doc.of(row)));
+                }
+            });
+        } catch (RuntimeException ex) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw ex;
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : pending) {
+                fresh.apply(doc);
+            }
+            pending = null;
+            current = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Filter cascade built with {} courses in {} ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Records the state of a saved course once the current transaction commits.
+     * The course must be flushed, so that it carries the version it commits at.
+     */
+    public void index(Course course) {
+        if (!enabled) return;
+        Doc doc = Doc.of(course);
+        TransactionHooks.afterCommit(() -> write(List.of(doc)));
+    }
+
+    /**
+     * Same as {@link #index(Course)} for a batch of courses, applied under a
+     * single lock acquisition.
+     */
+    public void indexAll(Collection<Course> courses) {
+        if (!enabled || courses.isEmpty()) return;
+        List<Doc> docs = courses.stream().map(Doc::of).toList();
+        TransactionHooks.afterCommit(() -> write(docs));
+    }
+
+    public List<String> boards() {
+        return read(trie -> names(List.of(trie.root)));
+    }
+
+    public List<String> mediums(String board) {
+        return read(trie -> names(trie.boards(board)));
+    }
+
+    public List<String> grades(String board, List<String> mediums) {
+        return read(trie -> names(children(trie.boards(board), mediums)));
+    }
+
+    public List<String> subjects(String board, List<String> mediums, List<String> grades) {
+        return read(trie -> names(children(children(trie.boards(board), mediums), grades)));
+    }
+
+    /**
+     * Compares the trie with the SQL queries it replaces: the board list, and
+     * for each board its mediums plus the grades and subjects with no medium
+     * filter and with each single medium.
+     */
+    public CheckResult verify() {
+        List<Mismatch> mismatches = new ArrayList<>();
+        int queries = 0;
+
+        List<String> boards = courseRepository.findDistinctBoards().stream()
+                .filter(board -> board != null && !board.isBlank())
+                .toList();
+        queries += compare(mismatches, "boards", boards, boards());
+
+        for (String board : boards) {
+            List<String> mediums = courseRepository.findDistinctMediumByBoard(board);
+            queries += compare(mismatches, "mediums[" + board + "]", mediums, mediums(board));
+            queries += compare(mismatches, "grades[" + board + "]",
+                    courseRepository.findDistinctGradeByBoardAndMediums(board, List.of()),
+                    grades(board, List.of()));
+            queries += compare(mismatches, "subjects[" + board + "]",
+                    courseRepository.findDistinctSubjectsByBoardMediumsAndGrades(board, List.of(), List.of()),
+                    subjects(board, List.of(), List.of()));
+            for (String medium : mediums) {
+                queries += compare(mismatches, "grades[" + board + "/" + medium + "]",
+                        courseRepository.findDistinctGradeByBoardAndMediums(board, List.of(medium)),
+                        grades(board, List.of(medium)));
+                queries += compare(mismatches, "subjects[" + board + "/" + medium + "]",
+                        courseRepository.findDistinctSubjectsByBoardMediumsAndGrades(board, List.of(medium), List.of()),
+                        subjects(board, List.of(medium), List.of()));
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            logger.warn("Filter cascade differs from the database in {} of {} queries", mismatches.size(), queries);
+        }
+        return new CheckResult(queries, mismatches);
+    }
+
+    private void write(List<Doc> docs) {
+        lock.writeLock().lock();
+        try {
+            for (Doc doc : docs) {
+                current.apply(doc);
+            }
+            if (pending != null) {
+                pending.addAll(docs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <T> T read(Function<Trie, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int compare(List<Mismatch> mismatches, String query, List<String> expected, List<String> actual) {
+        List<String> sortedExpected = new ArrayList<>(new TreeSet<>(expected));
+        if (!sortedExpected.equals(actual)) {
+            mismatches.add(new Mismatch(query, sortedExpected, actual));
+        }
+        return 1;
+    }
+
+    // All children of the given nodes when the filter has no non-blank value
+    // (blank key included), otherwise only the children it names.
+    private static List<Node> children(List<Node> parents, List<String> filter) {
+        Set<String> wanted = filter == null ? Set.of() : filter.stream()
+                .filter(v -> v != null && !v.isBlank())
+                .collect(Collectors.toSet());
+        List<Node> result = new ArrayList<>();
+        for (Node parent : parents) {
+            if (wanted.isEmpty()) {
+                result.addAll(parent.children.values());
+            } else {
+                for (String key : wanted) {
+                    Node child = parent.children.get(key);
+                    if (child != null) {
+                        result.add(child);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> names(List<Node> nodes) {
+        Set<String> names = new TreeSet<>();
+        for (Node node : nodes) {
+            names.addAll(node.children.keySet());
+        }
+        names.remove(NONE);
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * The cascade attributes of one course at a version, or a removal marker.
+     */
+    private record Doc(UUID id, long version, boolean removed, String board,
+                       Set<String> medium, Set<String> grade, Set<String> subject) {
+
+        static Doc of(Course course) {
+            if (course.isDeleted()) {
+                return new Doc(course.getId(), course.getVersion(), true, null, null, null, null);
+            }
+            return new Doc(course.getId(), course.getVersion(), false, course.getBoard(),
+                    keys(course.getMedium()), keys(course.getGrade()), keys(course.getSubject()));
+        }
+
+        static Doc of(CourseFacetView row) {
+            return new Doc(row.getId(), row.getVersion(), false, row.getBoard(),
+                    keys(row.getMedium()), keys(row.getGrade()), keys(row.getSubject()));
+        }
+
+        private static Set<String> keys(Collection<String> values) {
+            Set<String> keys = new LinkedHashSet<>();
+            if (values != null) {
+                for (String value : values) {
+                    if (value != null && !value.isBlank()) {
+                        keys.add(value);
+                    }
+                }
+            }
+            if (keys.isEmpty()) {
+                keys.add(NONE);
+            }
+            return keys;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private int paths;
+    }
+
+    private static final class Trie {
+        private final Node root = new Node();
+        // Last applied doc per course; removal markers stay as tombstones
+        // until the next rebuild.
+        private final Map<UUID, Doc> docs = new HashMap<>();
+        private int live;
+
+        int size() {
+            return live;
+        }
+
+        List<Node> boards(String board) {
+            if (board == null) return List.of();
+            Node node = root.children.get(board);
+            return node == null ? List.of() : List.of(node);
+        }
+
+        void apply(Doc doc) {
+            Doc previous = docs.get(doc.id());
+            if (previous != null && previous.version() >= doc.version()) return;
+            docs.put(doc.id(), doc);
+            if (previous != null && !previous.removed()) {
+                walk(previous, -1);
+                live--;
+            }
+            if (!doc.removed()) {
+                walk(doc, 1);
+                live++;
+            }
+        }
+
+        private void walk(Doc doc, int delta) {
+            String board = doc.board() == null || doc.board().isBlank() ? NONE : doc.board();
+            for (String medium : doc.medium()) {
+                for (String grade : doc.grade()) {
+                    for (String subject : doc.subject()) {
+                        step(root, List.of(board, medium, grade, subject), 0, delta);
+                    }
+                }
+            }
+        }
+
+        private static void step(Node node, List<String> path, int depth, int delta) {
+            node.paths += delta;
+            if (depth == path.size()) return;
+            String key = path.get(depth);
+            Node child = delta > 0 ? node.children.computeIfAbsent(key, k -> new Node()) : node.children.get(key);
+            if (child == null) return;
+            step(child, path, depth + 1, delta);
+            if (child.paths <= 0) {
+                node.children.remove(key);
+            }
+        }
+    }
+}
@@ -14,6 +14,11 @@ public class CourseMapper {
 
     // Convert Entity → DTO
    public CourseDto toDto(Course course) {
+    return toDto(course, course != null ? course.getUnits() : null);
+}
+
+    // Convert Entity → DTO, with units that were loaded separately
+   public CourseDto toDto(Course course, List<Unit> units) {
     if (course == null) return null;
     CourseDto dto = new CourseDto();
     dto.setId(course.getId());
@@ -24,14 +29,15 @@ public class CourseMapper {
     dto.setGrade(course.getGrade());
     dto.setSubject(course.getSubject());
 
-    if (course.getUnits() != null) {
-        dto.setUnits(course.getUnits().stream()
+    if (units != null) {
+        dto.setUnits(units.stream()
                 .map(this::toDto)
                 .collect(Collectors.toList()));
     }
 
 
     dto.setStatus(course.getStatus());
+    dto.setVersion(course.getVersion());
 
     return dto;
 }
@@ -67,6 +73,7 @@ public class CourseMapper {
         dto.setTitle(unit.getTitle());
         dto.setContent(unit.getContent());
         dto.setCourseId(unit.getCourse() != null ? unit.getCourse().getId() : null);
+        dto.setVersion(unit.getVersion());
         return dto;
     }
 
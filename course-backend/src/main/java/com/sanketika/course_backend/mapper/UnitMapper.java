@@ -15,6 +15,7 @@ public class UnitMapper {
         dto.setTitle(unit.getTitle());
         dto.setContent(unit.getContent());
         dto.setCourseId(unit.getCourse() != null ? unit.getCourse().getId() : null);
+        dto.setVersion(unit.getVersion());
         return dto;
     }
 
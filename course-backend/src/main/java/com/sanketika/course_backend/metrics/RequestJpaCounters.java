@@ -0,0 +1,56 @@
+package com.sanketika.course_backend.metrics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares and the entities it loads on
+ * the current thread between {@link #begin()} and {@link #end()}. Outside a
+ * tracked request both hooks are a single ThreadLocal read.
+ */
+@Component
+public class RequestJpaCounters implements StatementInspector, PostLoadEventListener {
+
+    public static final class Counts {
+        private long statements;
+        private long entityLoads;
+
+        public long getStatements() { return statements; }
+        public long getEntityLoads() { return entityLoads; }
+    }
+
+    private final ThreadLocal<Counts> current = new ThreadLocal<>();
+
+    public void begin() {
+        current.set(new Counts());
+    }
+
+    /**
+     * Stops tracking the current thread and returns what was counted, or null
+     * if {@link #begin()} was not called.
+     */
+    public Counts end() {
+        Counts counts = current.get();
+        current.remove();
+        return counts;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.statements++;
+        }
+        return sql;
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        Counts counts = current.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+}
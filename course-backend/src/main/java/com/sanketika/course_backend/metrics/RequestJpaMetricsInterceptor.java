@@ -0,0 +1,73 @@
+package com.sanketika.course_backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records, per controller method, how many SQL statements and entity loads a
+ * request caused (jpa.request.statements / jpa.request.entity.loads). Meters
+ * are resolved once per handler method and reused.
+ */
+public class RequestJpaMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private record Meters(DistributionSummary statements, DistributionSummary entityLoads) {
+    }
+
+    private final RequestJpaCounters counters;
+    private final MeterRegistry registry;
+    private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+    public RequestJpaMetricsInterceptor(RequestJpaCounters counters, MeterRegistry registry) {
+        this.counters = counters;
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            counters.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestJpaCounters.Counts counts = counters.end();
+        if (counts == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Meters m = meters.computeIfAbsent(handlerMethod.getMethod(), method -> meters(handlerMethod));
+        m.statements().record(counts.getStatements());
+        m.entityLoads().record(counts.getEntityLoads());
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Streaming responses continue on another thread; stop tracking this one.
+        counters.end();
+    }
+
+    private Meters meters(HandlerMethod handlerMethod) {
+        String controller = handlerMethod.getBeanType().getSimpleName();
+        String method = handlerMethod.getMethod().getName();
+        return new Meters(
+                DistributionSummary.builder("jpa.request.statements")
+                        .description("SQL statements prepared per request")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .register(registry),
+                DistributionSummary.builder("jpa.request.entity.loads")
+                        .description("Entities loaded per request")
+                        .tag("controller", controller)
+                        .tag("method", method)
+                        .register(registry));
+    }
+}
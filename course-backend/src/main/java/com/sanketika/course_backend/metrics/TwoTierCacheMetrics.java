@@ -0,0 +1,76 @@
+package com.sanketika.course_backend.metrics;
+
+import com.sanketika.course_backend.cache.CacheTierStats;
+import com.sanketika.course_backend.cache.TwoTierCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Standard cache.* meters for a {@link TwoTierCache}, read from its existing
+ * counters at scrape time, so nothing is added to the cache hot path.
+ *
+ * cache.gets hit/miss count a lookup once, as seen by the caller (an L1 miss
+ * served by Redis is a hit). cache.tier.gets breaks it down per tier; the
+ * batched lookups of the course list page go through the same counters.
+ */
+public class TwoTierCacheMetrics extends CacheMeterBinder<TwoTierCache> {
+
+    public TwoTierCacheMetrics(TwoTierCache cache) {
+        super(cache, cache.getName(), List.of(Tag.of("cacheManager", "twoTier")));
+    }
+
+    @Override
+    protected Long size() {
+        TwoTierCache cache = getCache();
+        return cache != null ? cache.getLocalSize() : null;
+    }
+
+    @Override
+    protected long hitCount() {
+        return stat(s -> s.getL1Hits() + s.getL2Hits());
+    }
+
+    @Override
+    protected Long missCount() {
+        return stat(CacheTierStats::getL2Misses);
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return stat(CacheTierStats::getEvictions);
+    }
+
+    @Override
+    protected long putCount() {
+        return stat(CacheTierStats::getPuts);
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+        tierCounter(registry, "l1", "hit", CacheTierStats::getL1Hits);
+        tierCounter(registry, "l1", "miss", CacheTierStats::getL1Misses);
+        tierCounter(registry, "l2", "hit", CacheTierStats::getL2Hits);
+        tierCounter(registry, "l2", "miss", CacheTierStats::getL2Misses);
+    }
+
+    private void tierCounter(MeterRegistry registry, String tier, String result, ToLongFunction<CacheTierStats> count) {
+        TwoTierCache cache = getCache();
+        if (cache == null) return;
+        FunctionCounter.builder("cache.tier.gets", cache, c -> count.applyAsLong(c.getStats()))
+                .tags(getTagsWithCacheName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("Lookups per cache tier")
+                .register(registry);
+    }
+
+    private long stat(ToLongFunction<CacheTierStats> count) {
+        TwoTierCache cache = getCache();
+        return cache != null ? count.applyAsLong(cache.getStats()) : 0L;
+    }
+}
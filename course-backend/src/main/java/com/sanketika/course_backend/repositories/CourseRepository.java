@@ -1,18 +1,23 @@
 package com.sanketika.course_backend.repositories;
 
+import com.sanketika.course_backend.dto.CourseFacetView;
 import com.sanketika.course_backend.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 // import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, UUID>, JpaSpecificationExecutor<Course> {
+public interface CourseRepository extends JpaRepository<Course, UUID>, JpaSpecificationExecutor<Course>, CourseRepositoryCustom {
 
     List<Course> findByStatus(String status);
 
@@ -21,40 +26,23 @@ public interface CourseRepository extends JpaRepository<Course, UUID>, JpaSpecif
 
     Optional<Course> findById(UUID id);
 
-    @Query("SELECT DISTINCT c.board from Course c")
-    List<String> findDistinctBoards();
 
-    @Query("Select distinct c.medium from Course c where c.board=:board")
-    List<String> findDistinctMediumByBoard(String board);
+    @Query("SELECT c.version FROM Course c WHERE c.id = :id")
+    Optional<Long> findVersionById(UUID id);
 
-    @Query(
-        value = "SELECT DISTINCT grade FROM courses " +
-                "WHERE board = :board " +
-                "AND exists (select 1 from jsonb_array_elements_text(medium::jsonb) as m where m IN (:mediums))",
-        nativeQuery = true
-    )
-    List<String> findDistinctGradeByBoardAndMediums(String board, List<String> mediums);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.id AS id, c.board AS board, c.status AS status, c.medium AS medium, " +
+           "c.grade AS grade, c.subject AS subject, c.createdAt AS createdAt, c.version AS version " +
+           "FROM Course c WHERE c.deleted = false ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<CourseFacetView> streamLiveFacets();
+
+    @Query("SELECT DISTINCT c.board FROM Course c WHERE c.deleted = false")
+    List<String> findDistinctBoards();
 
     @Query(
-        value = "SELECT DISTINCT subject " +
-                "FROM courses " +
-                "WHERE board = :board " +
-                "AND exists (select 1 from jsonb_array_elements_text(medium::jsonb) as m where m IN (:mediums)) " +
-                "AND exists (select 1 from jsonb_array_elements_text(grade::jsonb) as g where g IN (:grades))",
+        value = "SELECT DISTINCT m FROM courses c CROSS JOIN LATERAL jsonb_array_elements_text(c.medium) AS m " +
+                "WHERE c.board = :board AND c.deleted = false",
         nativeQuery = true
     )
-    List<String> findDistinctSubjectsByBoardMediumsAndGrades(
-            String board,
-            List<String> mediums,
-            List<String> grades
-    );
-
-    @Query("SELECT DISTINCT c.medium FROM Course c")
-    List<String> findDistinctMediums();
-
-    @Query("SELECT DISTINCT c.grade FROM Course c")
-    List<String> findDistinctGrades();
-
-    @Query("SELECT DISTINCT c.subject FROM Course c")
-    List<String> findDistinctSubjects();
+    List<String> findDistinctMediumByBoard(String board);
 }
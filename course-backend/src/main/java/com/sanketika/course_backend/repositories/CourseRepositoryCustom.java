@@ -0,0 +1,59 @@
+package com.sanketika.course_backend.repositories;
+
+import com.sanketika.course_backend.dto.CourseCardDto;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.FacetCountsDto;
+import com.sanketika.course_backend.entity.Course;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface CourseRepositoryCustom {
+
+    /**
+     * Row count and latest update time of a filtered set of courses.
+     */
+    record ListStamp(long count, LocalDateTime lastUpdated) {
+    }
+
+    /**
+     * Card projection of the courses matching {@code spec}. Selects only the
+     * card columns, so neither description nor units are read.
+     */
+    List<CourseCardDto> findCards(Specification<Course> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Courses matching the specification as unit-less DTOs, read through a
+     * server-side cursor with the given fetch size. Rows are not attached to
+     * the persistence context, so memory stays flat however many are read.
+     * Must be consumed inside a transaction and closed.
+     */
+    Stream<CourseDto> streamCourses(Specification<Course> spec, Sort sort, int fetchSize);
+
+    /**
+     * Facet counts over the courses matching the specification, tallied from a
+     * single scan of the facet columns.
+     */
+    FacetCountsDto countFacets(Specification<Course> spec);
+
+    /**
+     * Count and max(updatedAt) of the courses matching the specification, in
+     * one aggregate query. Any insert, update or soft delete touching the set
+     * changes one of the two.
+     */
+    ListStamp findListStamp(Specification<Course> spec);
+
+    /**
+     * Distinct grades of courses on a board that have any of the given mediums.
+     */
+    List<String> findDistinctGradeByBoardAndMediums(String board, List<String> mediums);
+
+    /**
+     * Distinct subjects of courses on a board that have any of the given mediums
+     * and any of the given grades.
+     */
+    List<String> findDistinctSubjectsByBoardMediumsAndGrades(String board, List<String> mediums, List<String> grades);
+}
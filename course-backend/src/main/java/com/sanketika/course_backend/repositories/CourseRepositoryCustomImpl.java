@@ -0,0 +1,238 @@
+package com.sanketika.course_backend.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseCardDto;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.FacetCountsDto;
+import com.sanketika.course_backend.entity.Course;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CourseCardDto> findCards(Specification<Course> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> root = query.from(Course.class);
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("name").alias("name"),
+                root.get("board").alias("board"),
+                root.get("medium").alias("medium"),
+                root.get("grade").alias("grade"),
+                root.get("subject").alias("subject"),
+                root.get("status").alias("status"),
+                root.get("createdAt").alias("createdAt"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(tuple -> {
+                    CourseCardDto card = new CourseCardDto();
+                    card.setId(tuple.get("id", UUID.class));
+                    card.setName(tuple.get("name", String.class));
+                    card.setBoard(tuple.get("board", String.class));
+                    card.setMedium((List<String>) tuple.get("medium"));
+                    card.setGrade((List<String>) tuple.get("grade"));
+                    card.setSubject((List<String>) tuple.get("subject"));
+                    card.setStatus(tuple.get("status", String.class));
+                    card.setCreatedAt(tuple.get("createdAt", LocalDateTime.class));
+                    return card;
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<CourseDto> streamCourses(Specification<Course> spec, Sort sort, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> root = query.from(Course.class);
+
+        query.multiselect(
+                root.get("id").alias("id"),
+                root.get("name").alias("name"),
+                root.get("description").alias("description"),
+                root.get("board").alias("board"),
+                root.get("medium").alias("medium"),
+                root.get("grade").alias("grade"),
+                root.get("subject").alias("subject"),
+                root.get("status").alias("status"),
+                root.get("version").alias("version"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> {
+                    CourseDto dto = new CourseDto();
+                    dto.setId(tuple.get("id", UUID.class));
+                    dto.setName(tuple.get("name", String.class));
+                    dto.setDescription(tuple.get("description", String.class));
+                    dto.setBoard(tuple.get("board", String.class));
+                    dto.setMedium((List<String>) tuple.get("medium"));
+                    dto.setGrade((List<String>) tuple.get("grade"));
+                    dto.setSubject((List<String>) tuple.get("subject"));
+                    dto.setStatus(tuple.get("status", String.class));
+                    dto.setVersion(tuple.get("version", Long.class));
+                    return dto;
+                });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public FacetCountsDto countFacets(Specification<Course> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> root = query.from(Course.class);
+
+        query.multiselect(
+                root.get("board").alias("board"),
+                root.get("status").alias("status"),
+                root.get("medium").alias("medium"),
+                root.get("grade").alias("grade"),
+                root.get("subject").alias("subject"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        FacetCountsDto counts = new FacetCountsDto();
+        try (Stream<Tuple> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, 1000)
+                .getResultStream()) {
+            rows.forEach(tuple -> counts.add(
+                    tuple.get("board", String.class),
+                    tuple.get("status", String.class),
+                    (List<String>) tuple.get("medium"),
+                    (List<String>) tuple.get("grade"),
+                    (List<String>) tuple.get("subject")));
+        }
+        return counts;
+    }
+
+    @Override
+    public ListStamp findListStamp(Specification<Course> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Course> root = query.from(Course.class);
+
+        query.multiselect(
+                cb.count(root).alias("count"),
+                cb.greatest(root.<LocalDateTime>get("updatedAt")).alias("lastUpdated"));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Tuple tuple = entityManager.createQuery(query).getSingleResult();
+        Long count = tuple.get("count", Long.class);
+        return new ListStamp(count == null ? 0 : count, tuple.get("lastUpdated", LocalDateTime.class));
+    }
+
+    @Override
+    public List<String> findDistinctGradeByBoardAndMediums(String board, List<String> mediums) {
+        return distinctElements("grade", board, Map.of("medium", nullToEmpty(mediums)));
+    }
+
+    @Override
+    public List<String> findDistinctSubjectsByBoardMediumsAndGrades(String board, List<String> mediums, List<String> grades) {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        filters.put("medium", nullToEmpty(mediums));
+        filters.put("grade", nullToEmpty(grades));
+        return distinctElements("subject", board, filters);
+    }
+
+    /**
+     * SELECT DISTINCT over the elements of one jsonb column, narrowed by
+     * {@code column @> '["value"]'} checks (OR within a column, AND across
+     * columns) so the GIN indexes apply. An empty value list adds no filter.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> distinctElements(String column, String board, Map<String, List<String>> filters) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT DISTINCT v FROM courses c CROSS JOIN LATERAL jsonb_array_elements_text(c.")
+                .append(column)
+                .append(") AS v WHERE c.board = :board AND c.deleted = false");
+        Map<String, Object> params = new HashMap<>();
+        params.put("board", board);
+
+        filters.forEach((filterColumn, values) -> {
+            List<String> clauses = new ArrayList<>();
+            for (String value : values) {
+                if (value == null || value.isBlank()) continue;
+                String name = filterColumn + params.size();
+                clauses.add("c." + filterColumn + " @> cast(:" + name + " as jsonb)");
+                params.put(name, toJsonArray(value));
+            }
+            if (!clauses.isEmpty()) {
+                sql.append(" AND (").append(String.join(" OR ", clauses)).append(")");
+            }
+        });
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static String toJsonArray(String value) {
+        try {
+            return JSON.writeValueAsString(List.of(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid filter value: " + value, e);
+        }
+    }
+}
@@ -1,13 +1,47 @@
 package com.sanketika.course_backend.repositories;
 
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
 import com.sanketika.course_backend.entity.Unit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UnitRepository extends JpaRepository<Unit, UUID> {
-    List<Unit> findByCourseId(UUID courseId);
+public interface UnitRepository extends JpaRepository<Unit, UUID>, UnitRepositoryCustom {
+    @Query("SELECT u.version FROM Unit u WHERE u.id = :id")
+    Optional<Long> findVersionById(UUID id);
+
+    // DTO projections: nothing is attached to the persistence context, and the
+    // lazy content attribute is read in the same query.
+    @Query("SELECT new com.sanketika.course_backend.dto.UnitDto(u.id, u.title, u.content, u.course.id, u.version) " +
+           "FROM Unit u WHERE u.course.id IN :courseIds ORDER BY u.createdAt ASC, u.id ASC")
+    List<UnitDto> findDtosByCourseIdIn(Collection<UUID> courseIds);
+
+    @Query("SELECT new com.sanketika.course_backend.dto.UnitDto(u.id, u.title, u.content, u.course.id, u.version) " +
+           "FROM Unit u WHERE u.id = :id")
+    Optional<UnitDto> findDtoById(UUID id);
+
+    // Summaries: octet_length reads the size from the TOAST header, the body itself is never read.
+
+    @Query("SELECT new com.sanketika.course_backend.dto.UnitSummaryDto(u.id, u.title, u.course.id, u.version, octet_length(u.content), u.createdAt) " +
+           "FROM Unit u WHERE u.course.id = :courseId ORDER BY u.createdAt ASC, u.id ASC")
+    List<UnitSummaryDto> findSummariesByCourseId(UUID courseId);
+
+    @Query("SELECT new com.sanketika.course_backend.dto.UnitSummaryDto(u.id, u.title, u.course.id, u.version, octet_length(u.content), u.createdAt) " +
+           "FROM Unit u WHERE u.id = :id")
+    Optional<UnitSummaryDto> findSummaryById(UUID id);
+
+    /**
+     * Bytes [start, start + length) of the UTF-8 body (start is 1-based, as in
+     * SQL), or empty if the unit is gone or no longer at that version.
+     */
+    @Query(value = "SELECT substring(convert_to(content, 'UTF8') FROM :start FOR :length) " +
+                   "FROM units WHERE id = :id AND version = :version", nativeQuery = true)
+    Optional<byte[]> findContentSlice(UUID id, long version, int start, int length);
 }
@@ -0,0 +1,24 @@
+package com.sanketika.course_backend.repositories;
+
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import com.sanketika.course_backend.utils.KeysetCursor;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface UnitRepositoryCustom {
+
+    /**
+     * Up to {@code limit} unit summaries after the cursor in (createdAt, id)
+     * order, optionally limited to one course and to titles containing
+     * {@code title} (case-insensitive). Null arguments are not filtered on.
+     */
+    List<UnitSummaryDto> findSummaries(UUID courseId, String title, KeysetCursor after, int limit);
+
+    /**
+     * The same summaries, all of them, read through a server-side cursor with
+     * the given fetch size. Must be consumed inside a transaction and closed.
+     */
+    Stream<UnitSummaryDto> streamSummaries(UUID courseId, String title, int fetchSize);
+}
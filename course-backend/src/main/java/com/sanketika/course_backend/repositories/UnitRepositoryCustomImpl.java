@@ -0,0 +1,79 @@
+package com.sanketika.course_backend.repositories;
+
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import com.sanketika.course_backend.entity.Unit;
+import com.sanketika.course_backend.utils.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public class UnitRepositoryCustomImpl implements UnitRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UnitSummaryDto> findSummaries(UUID courseId, String title, KeysetCursor after, int limit) {
+        return summaries(courseId, title, after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<UnitSummaryDto> streamSummaries(UUID courseId, String title, int fetchSize) {
+        return summaries(courseId, title, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    // course.id is the course_id column: the course is neither joined nor loaded.
+    private TypedQuery<UnitSummaryDto> summaries(UUID courseId, String title, KeysetCursor after) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UnitSummaryDto> query = cb.createQuery(UnitSummaryDto.class);
+        Root<Unit> root = query.from(Unit.class);
+
+        query.select(cb.construct(UnitSummaryDto.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("course").get("id"),
+                root.get("version"),
+                cb.function("octet_length", Integer.class, root.get("content")),
+                root.get("createdAt")));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (courseId != null) {
+            predicates.add(cb.equal(root.get("course").get("id"), courseId));
+        }
+        if (title != null && !title.isBlank()) {
+            String likePattern = "%" + escapeLike(title.toLowerCase(Locale.ROOT)) + "%";
+            predicates.add(cb.like(cb.lower(root.get("title")), likePattern, '\\'));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(root.get("createdAt"), after.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), after.createdAt()),
+                            cb.greaterThan(root.get("id"), after.id()))));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
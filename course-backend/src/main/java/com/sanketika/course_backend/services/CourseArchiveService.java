@@ -0,0 +1,282 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.UnitCache;
+import com.sanketika.course_backend.dto.ArchiveRunDto;
+import com.sanketika.course_backend.dto.ArchiveStatsDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.exceptions.CourseNotDeletedException;
+import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
+import com.sanketika.course_backend.index.CourseFacetIndex;
+import com.sanketika.course_backend.index.FilterCascadeIndex;
+import com.sanketika.course_backend.repositories.CourseRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves soft-deleted courses, with their units, out of the live tables into
+ * courses_archive and units_archive once they have been deleted for longer
+ * than the retention, so list scans and filter queries stop reading them.
+ *
+ * Runs on a schedule in bounded batches, one transaction each, with a pause
+ * in between and a cap on batches per run, so a large backlog drains over
+ * several runs instead of holding locks or saturating I/O. Candidates are
+ * locked with SKIP LOCKED, so replicas running the job at the same time take
+ * disjoint batches. An archived course can be restored until it is purged
+ * from the archive by hand.
+ */
+@Service
+public class CourseArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseArchiveService.class);
+
+    private static final String COURSE_COLUMNS =
+            "id, name, description, board, medium, grade, subject, status, deleted, deleted_at, version, created_at, updated_at";
+
+    private static final String UNIT_COLUMNS = "id, title, content, course_id, version, created_at, updated_at";
+
+    private static final String SELECT_EXPIRED =
+            "SELECT id FROM courses WHERE deleted = true AND deleted_at < ? " +
+            "ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String ARCHIVE_UNITS =
+            "WITH moved AS (DELETE FROM units WHERE course_id = ANY(?) RETURNING " + UNIT_COLUMNS + ") " +
+            "INSERT INTO units_archive (" + UNIT_COLUMNS + ", archived_at) SELECT " + UNIT_COLUMNS + ", ? FROM moved " +
+            "RETURNING id, version";
+
+    private static final String ARCHIVE_COURSES =
+            "WITH moved AS (DELETE FROM courses WHERE id = ANY(?) RETURNING " + COURSE_COLUMNS + ") " +
+            "INSERT INTO courses_archive (" + COURSE_COLUMNS + ", archived_at) SELECT " + COURSE_COLUMNS + ", ? FROM moved";
+
+    // Restored rows are live again, with a new version so cached tags no longer match.
+    private static final String RESTORE_COURSE =
+            "WITH moved AS (DELETE FROM courses_archive WHERE id = ? RETURNING " + COURSE_COLUMNS + ") " +
+            "INSERT INTO courses (" + COURSE_COLUMNS + ") " +
+            "SELECT id, name, description, board, medium, grade, subject, status, false, NULL, version + 1, created_at, ? FROM moved";
+
+    private static final String RESTORE_UNITS =
+            "WITH moved AS (DELETE FROM units_archive WHERE course_id = ? RETURNING " + UNIT_COLUMNS + ") " +
+            "INSERT INTO units (" + UNIT_COLUMNS + ") " +
+            "SELECT id, title, content, course_id, version + 1, created_at, updated_at FROM moved";
+
+    private static final String UNDELETE_COURSE =
+            "UPDATE courses SET deleted = false, deleted_at = NULL, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND deleted = true";
+
+    private static final String TABLE_STATS =
+            "SELECT relname, n_live_tup, n_dead_tup, pg_table_size(relid) AS table_bytes, pg_indexes_size(relid) AS index_bytes " +
+            "FROM pg_stat_user_tables WHERE relname IN ('courses', 'units', 'courses_archive', 'units_archive') " +
+            "ORDER BY relname";
+
+    private static final String INDEX_SIZES =
+            "SELECT indexrelname, pg_relation_size(indexrelid) AS bytes FROM pg_stat_user_indexes " +
+            "WHERE relname = ? ORDER BY indexrelname";
+
+    private record Batch(int courses, int units) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnitCache unitCache;
+    private final CourseCache courseCache;
+    private final CourseRepository courseRepository;
+    private final CourseFacetIndex courseFacetIndex;
+    private final FilterCascadeIndex filterCascadeIndex;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration pause;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public CourseArchiveService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                UnitCache unitCache,
+                                CourseCache courseCache,
+                                CourseRepository courseRepository,
+                                CourseFacetIndex courseFacetIndex,
+                                FilterCascadeIndex filterCascadeIndex,
+                                @Value("${app.archive.enabled:true}") boolean enabled,
+                                @Value("${app.archive.retention:P30D}") Duration retention,
+                                @Value("${app.archive.batch-size:200}") int batchSize,
+                                @Value("${app.archive.max-batches:50}") int maxBatches,
+                                @Value("${app.archive.pause:PT0.5S}") Duration pause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.unitCache = unitCache;
+        this.courseCache = courseCache;
+        this.courseRepository = courseRepository;
+        this.courseFacetIndex = courseFacetIndex;
+        this.filterCascadeIndex = filterCascadeIndex;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.pause = pause;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.initial-delay:PT10M}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        if (!running.tryLock()) {
+            logger.info("Course archive run skipped: another run is in progress");
+            return;
+        }
+        try {
+            archive();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    /**
+     * Runs the archive now, waiting for a run already in progress to finish.
+     */
+    public ArchiveRunDto archiveExpired() {
+        running.lock();
+        try {
+            return archive();
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private ArchiveRunDto archive() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        ArchiveRunDto run = new ArchiveRunDto();
+        run.setCutoff(cutoff);
+
+        while (run.getBatches() < maxBatches) {
+            Batch batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (batch == null || batch.courses() == 0) {
+                run.setComplete(true);
+                break;
+            }
+            run.setBatches(run.getBatches() + 1);
+            run.setCourses(run.getCourses() + batch.courses());
+            run.setUnits(run.getUnits() + batch.units());
+            if (batch.courses() < batchSize) {
+                run.setComplete(true);
+                break;
+            }
+            try {
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        run.setElapsedMs((System.nanoTime() - start) / 1_000_000);
+        if (run.getCourses() > 0 || !run.isComplete()) {
+            logger.info("Course archive: {} courses and {} units deleted before {} archived in {} batches, {} ms{}",
+                    run.getCourses(), run.getUnits(), cutoff, run.getBatches(), run.getElapsedMs(),
+                    run.isComplete() ? "" : "; more remain for the next run");
+        }
+        return run;
+    }
+
+    private Batch archiveBatch(LocalDateTime cutoff) {
+        List<UUID> ids = jdbcTemplate.queryForList(SELECT_EXPIRED, UUID.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) return new Batch(0, 0);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // Archived units are evicted at the next version, so a read that loaded one before it moved cannot cache it again.
+        Map<UUID, Long> units = new HashMap<>();
+        jdbcTemplate.query(ARCHIVE_UNITS,
+                ps -> {
+                    ps.setArray(1, uuidArray(ps.getConnection(), ids));
+                    ps.setTimestamp(2, now);
+                },
+                rs -> {
+                    units.put(rs.getObject(1, UUID.class), rs.getLong(2) + 1);
+                });
+        int courses = jdbcTemplate.update(ARCHIVE_COURSES, ps -> {
+            ps.setArray(1, uuidArray(ps.getConnection(), ids));
+            ps.setTimestamp(2, now);
+        });
+
+        // The courses left the caches and indexes when they were deleted; their units may still be cached.
+        unitCache.evictAll(units);
+        return new Batch(courses, units.size());
+    }
+
+    /**
+     * Makes a deleted course live again: from the archive if it was moved
+     * there, otherwise by clearing its deleted flag.
+     */
+    @Transactional
+    public void restore(UUID courseId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int restored = jdbcTemplate.update(RESTORE_COURSE, ps -> {
+            ps.setObject(1, courseId);
+            ps.setTimestamp(2, now);
+        });
+        if (restored > 0) {
+            int units = jdbcTemplate.update(RESTORE_UNITS, ps -> ps.setObject(1, courseId));
+            logger.info("Restored course {} and {} units from the archive", courseId, units);
+        } else if (jdbcTemplate.update(UNDELETE_COURSE, now, courseId) == 0) {
+            if (courseRepository.existsById(courseId)) {
+                throw new CourseNotDeletedException("Course " + courseId + " is not deleted");
+            }
+            throw new ResourceNotFoundException("Course not found with ID: " + courseId);
+        }
+
+        Course course = courseRepository.findById(courseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
+        courseFacetIndex.index(course);
+        filterCascadeIndex.index(course);
+        courseCache.evict(course);
+    }
+
+    public ArchiveStatsDto stats() {
+        ArchiveStatsDto stats = new ArchiveStatsDto();
+        stats.setDeletedCourses(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM courses WHERE deleted = true", Long.class));
+        stats.setArchivableCourses(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM courses WHERE deleted = true AND deleted_at < ?", Long.class,
+                Timestamp.valueOf(LocalDateTime.now().minus(retention))));
+
+        jdbcTemplate.query(TABLE_STATS, rs -> {
+            ArchiveStatsDto.TableStats table = new ArchiveStatsDto.TableStats();
+            table.setTable(rs.getString("relname"));
+            table.setLiveRows(rs.getLong("n_live_tup"));
+            table.setDeadRows(rs.getLong("n_dead_tup"));
+            table.setTableBytes(rs.getLong("table_bytes"));
+            table.setIndexBytes(rs.getLong("index_bytes"));
+            stats.getTables().add(table);
+        });
+        for (ArchiveStatsDto.TableStats table : stats.getTables()) {
+            jdbcTemplate.query(INDEX_SIZES,
+                    rs -> {
+                        table.getIndexes().put(rs.getString("indexrelname"), rs.getLong("bytes"));
+                    },
+                    table.getTable());
+        }
+        return stats;
+    }
+
+    private static Array uuidArray(Connection connection, Collection<UUID> ids) throws SQLException {
+        return connection.createArrayOf("uuid", ids.toArray());
+    }
+}
@@ -0,0 +1,256 @@
+package com.sanketika.course_backend.services;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.BulkImportResultDto;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.entity.Unit;
+import com.sanketika.course_backend.index.CourseFacetIndex;
+import com.sanketika.course_backend.index.FilterCascadeIndex;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads many courses at once with JDBC batch inserts instead of one
+ * createCourse call (two round trips plus index and cache work) per course.
+ *
+ * Rows are validated as they are read and written in chunks, one transaction
+ * per chunk. If a chunk's batch fails, its rows are retried one by one so a
+ * single bad row is reported without losing the rest of the chunk.
+ */
+@Service
+public class CourseImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseImportService.class);
+
+    private static final String INSERT_COURSE =
+            "INSERT INTO courses (id, name, description, board, medium, grade, subject, status, deleted, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, cast(? as jsonb), cast(? as jsonb), cast(? as jsonb), ?, false, 0, ?, ?)";
+
+    private static final String INSERT_UNIT =
+            "INSERT INTO units (id, title, content, course_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CourseFacetIndex courseFacetIndex;
+    private final FilterCascadeIndex filterCascadeIndex;
+    private final int chunkSize;
+
+    public CourseImportService(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               ObjectMapper objectMapper,
+                               Validator validator,
+                               CourseFacetIndex courseFacetIndex,
+                               FilterCascadeIndex filterCascadeIndex,
+                               @Value("${app.bulk-import.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.courseFacetIndex = courseFacetIndex;
+        this.filterCascadeIndex = filterCascadeIndex;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * Imports a JSON array or newline-delimited stream of CourseDto objects,
+     * reading it incrementally so the payload is never held in memory.
+     */
+    public BulkImportResultDto importCourses(InputStream body) throws IOException {
+        Run run = new Run();
+        try (MappingIterator<CourseDto> rows = objectMapper.readerFor(CourseDto.class).readValues(body)) {
+            while (true) {
+                CourseDto dto;
+                try {
+                    if (!rows.hasNextValue()) break;
+                    dto = rows.nextValue();
+                } catch (JsonParseException ex) {
+                    run.result.addError(run.nextRow++, null,
+                            "Malformed JSON, remaining input skipped: " + ex.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException ex) {
+                    run.result.setReceived(run.result.getReceived() + 1);
+                    run.result.addError(run.nextRow++, null, ex.getOriginalMessage());
+                    continue;
+                }
+                run.accept(dto);
+            }
+        }
+        return run.finish();
+    }
+
+    public BulkImportResultDto importCourses(Iterable<CourseDto> courses) {
+        Run run = new Run();
+        for (CourseDto dto : courses) {
+            run.accept(dto);
+        }
+        return run.finish();
+    }
+
+    private record Row(long row, CourseDto dto, Course course) {
+    }
+
+    private final class Run {
+        private final BulkImportResultDto result = new BulkImportResultDto();
+        private final List<Row> chunk = new ArrayList<>(chunkSize);
+        private final long start = System.nanoTime();
+        private long nextRow = 0;
+
+        void accept(CourseDto dto) {
+            long row = nextRow++;
+            result.setReceived(result.getReceived() + 1);
+
+            String error = validate(dto);
+            if (error != null) {
+                result.addError(row, dto != null ? dto.getName() : null, error);
+                return;
+            }
+            chunk.add(new Row(row, dto, toCourse(dto)));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        BulkImportResultDto finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - start;
+            result.setElapsedMs(elapsedNanos / 1_000_000);
+            result.setRowsPerSecond(elapsedNanos > 0 ? result.getInserted() * 1e9 / elapsedNanos : 0);
+            logger.info("Bulk import: {} received, {} inserted, {} failed in {} ms",
+                    result.getReceived(), result.getInserted(), result.getFailed(), result.getElapsedMs());
+            return result;
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) return;
+
+            List<Course> inserted = new ArrayList<>(chunk.size());
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        insert(chunk.stream().map(Row::course).collect(Collectors.toList())));
+                chunk.forEach(row -> inserted.add(row.course()));
+            } catch (DataAccessException batchFailure) {
+                // Find the offending rows; everything else in the chunk still goes in.
+                for (Row row : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insert(List.of(row.course())));
+                        inserted.add(row.course());
+                    } catch (DataAccessException ex) {
+                        result.addError(row.row(), row.dto().getName(),
+                                NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                    }
+                }
+            }
+            result.setInserted(result.getInserted() + inserted.size());
+            chunk.clear();
+
+            // New ids have no cache entries to invalidate; the in-memory indexes
+            // take the whole chunk under one lock each.
+            courseFacetIndex.indexAll(inserted);
+            filterCascadeIndex.indexAll(inserted);
+        }
+    }
+
+    private String validate(CourseDto dto) {
+        if (dto == null) {
+            return "Empty row";
+        }
+        Set<ConstraintViolation<CourseDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (dto.getUnits() != null) {
+            for (UnitDto unit : dto.getUnits()) {
+                if (unit == null || unit.getTitle() == null || unit.getTitle().isBlank()) {
+                    return "Title is required";
+                }
+            }
+        }
+        return null;
+    }
+
+    private Course toCourse(CourseDto dto) {
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setName(dto.getName());
+        course.setDescription(dto.getDescription());
+        course.setBoard(dto.getBoard());
+        course.setMedium(dto.getMedium());
+        course.setGrade(dto.getGrade());
+        course.setSubject(dto.getSubject());
+        course.setStatus(dto.getStatus() != null ? dto.getStatus() : "live");
+
+        if (dto.getUnits() != null) {
+            for (UnitDto unitDto : dto.getUnits()) {
+                Unit unit = new Unit();
+                unit.setId(UUID.randomUUID());
+                unit.setTitle(unitDto.getTitle());
+                unit.setContent(unitDto.getContent());
+                unit.setCourse(course);
+                course.getUnits().add(unit);
+            }
+        }
+        return course;
+    }
+
+    private void insert(List<Course> courses) {
+        // One microsecond apart so createdAt keeps payload order for the newest-first listings.
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> courseRows = new ArrayList<>(courses.size());
+        List<Object[]> unitRows = new ArrayList<>();
+        for (int i = 0; i < courses.size(); i++) {
+            Course course = courses.get(i);
+            course.setCreatedAt(now.plusNanos(i * 1_000L));
+            course.setUpdatedAt(course.getCreatedAt());
+            Timestamp createdAt = Timestamp.valueOf(course.getCreatedAt());
+            courseRows.add(new Object[]{
+                    course.getId(), course.getName(), course.getDescription(), course.getBoard(),
+                    toJson(course.getMedium()), toJson(course.getGrade()), toJson(course.getSubject()),
+                    course.getStatus(), createdAt, createdAt});
+            for (Unit unit : course.getUnits()) {
+                unitRows.add(new Object[]{
+                        unit.getId(), unit.getTitle(), unit.getContent(), course.getId(), createdAt, createdAt});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_COURSE, courseRows);
+        if (!unitRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_UNIT, unitRows);
+        }
+    }
+
+    private String toJson(List<String> values) {
+        try {
+            return objectMapper.writeValueAsString(values != null ? values : List.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid list value: " + values, e);
+        }
+    }
+}
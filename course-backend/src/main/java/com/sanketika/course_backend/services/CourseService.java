@@ -1,16 +1,26 @@
 package com.sanketika.course_backend.services;
 
+import com.sanketika.course_backend.cache.CourseJsonCache;
+import com.sanketika.course_backend.dto.CourseCardDto;
 import com.sanketika.course_backend.dto.CourseDto;
 import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FacetCountsDto;
+import com.sanketika.course_backend.dto.KeysetSlice;
 import org.springframework.data.domain.Page;
 
 // import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.UUID;
 
 public interface CourseService {
 
 
-    Object getCourseById(UUID id);
+    CourseDto getCourseById(UUID id);
+
+    CourseJsonCache.Entry getCourseJson(UUID id);
+
+    Long getCourseVersion(UUID id);
 
     CourseDto createCourse(CourseDto dto);
 
@@ -18,4 +28,16 @@ public interface CourseService {
 
     void deleteCourse(UUID id);
     Page<CourseDto> listCourses(CourseListRequest request);
+
+    KeysetSlice<CourseDto> scrollCourses(CourseListRequest request);
+
+    Page<CourseCardDto> listCourseCards(CourseListRequest request);
+
+    KeysetSlice<CourseCardDto> scrollCourseCards(CourseListRequest request);
+
+    FacetCountsDto getFacetCounts(CourseListRequest request);
+
+    String getListETag(CourseListRequest request);
+
+    void exportCourses(CourseListRequest request, String format, OutputStream out) throws IOException;
 }
@@ -1,15 +1,31 @@
 package com.sanketika.course_backend.services;
 
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.CourseJsonCache;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.dto.CourseCardDto;
 import com.sanketika.course_backend.dto.CourseDto;
 import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FacetCountsDto;
+import com.sanketika.course_backend.dto.KeysetSlice;
 import com.sanketika.course_backend.dto.UnitDto;
 import com.sanketika.course_backend.entity.Course;
 import com.sanketika.course_backend.entity.Unit;
 import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
+import com.sanketika.course_backend.index.CourseFacetIndex;
+import com.sanketika.course_backend.index.FilterCascadeIndex;
 import com.sanketika.course_backend.mapper.CourseMapper;
 import com.sanketika.course_backend.repositories.CourseRepository;
+import com.sanketika.course_backend.repositories.CourseRepositoryCustom;
 import com.sanketika.course_backend.repositories.UnitRepository;
-
+import com.sanketika.course_backend.utils.CourseExportWriter;
+import com.sanketika.course_backend.utils.ETags;
+import com.sanketika.course_backend.utils.KeysetCursor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.transaction.Transactional;
 // import org.slf4j.Logger;
@@ -17,50 +33,109 @@ import jakarta.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-
-
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class CourseServiceImpl implements CourseService {
 
+    // Newest first; the id breaks createdAt ties the same way the facet index does.
+    private static final Sort LIST_ORDER = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    // Rows per round trip of the export cursor, and courses per unit lookup.
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final int EXPORT_BATCH_SIZE = 500;
+
 
     @Autowired
     private CourseRepository courseRepository;
 
     @Autowired
-    private CacheManager cacheManager;
+    private CourseCache courseCache;
+
+    @Autowired
+    private CourseJsonCache courseJsonCache;
+
+    @Autowired
+    private UnitContentStore unitContentStore;
     @Autowired
     private UnitRepository unitRepository;
 
     @Autowired
     private CourseMapper courseMapper;
 
+    @Autowired
+    private CourseFacetIndex courseFacetIndex;
+
+    @Autowired
+    private FilterCascadeIndex filterCascadeIndex;
+
 
 @Override
-@Cacheable(value = "courses", key = "#id")
-public Object getCourseById(UUID id) {
-    return courseMapper.toDto(
+public CourseDto getCourseById(UUID id) {
+    CourseDto cached = courseCache.get(id);
+    if (cached != null) {
+        return cached;
+    }
+    CourseDto dto = withUnits(
         courseRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Course not found"))
     );
+    unitContentStore.offload(dto);
+    courseCache.populate(dto);
+    return dto;
 }
+
+    /**
+     * The course as serialized JSON: cached bytes when there are any,
+     * otherwise getCourseById serialized once and cached for the next read.
+     */
+    @Override
+    public CourseJsonCache.Entry getCourseJson(UUID id) {
+        CourseJsonCache.Entry cached = courseJsonCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        return courseJsonCache.populate(getCourseById(id));
+    }
+
+    /**
+     * Version of a course as getCourseJson would return it: the cached
+     * entry's if there is one, otherwise the column, without loading units.
+     */
+    @Override
+    public Long getCourseVersion(UUID id) {
+        CourseJsonCache.Entry json = courseJsonCache.get(id);
+        if (json != null && json.version() != null) {
+            return json.version();
+        }
+        CourseDto cached = courseCache.get(id);
+        if (cached != null && cached.getVersion() != null) {
+            return cached.getVersion();
+        }
+        return courseRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+    }
     @Override
-    @CacheEvict(value = "courses", allEntries = true)
     public CourseDto createCourse(CourseDto dto) {
         Course course = new Course();
         course.setName(dto.getName());
@@ -86,11 +161,15 @@ public Object getCourseById(UUID id) {
             savedCourse.setUnits(units);
         }
 
-        return courseMapper.toDto(savedCourse);
+        courseFacetIndex.index(savedCourse);
+        filterCascadeIndex.index(savedCourse);
+        CourseDto created = courseMapper.toDto(savedCourse);
+        unitContentStore.offload(created);
+        courseCache.writeThrough(created);
+        return created;
     }
 
     @Override
-    @CacheEvict(value = "courses", allEntries = true)
     public CourseDto updateCourse(UUID id, CourseDto dto) {
         Course existing = courseRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + id));
@@ -103,23 +182,234 @@ public Object getCourseById(UUID id) {
         existing.setSubject(dto.getSubject());
         existing.setStatus(dto.getStatus() != null ? dto.getStatus() : "live");
 
-        Course updated = courseRepository.save(existing);
+        // Flush so the returned and cached DTO carry the bumped version.
+        Course updated = courseRepository.saveAndFlush(existing);
+        courseFacetIndex.index(updated);
+        filterCascadeIndex.index(updated);
 
-        return courseMapper.toDto(updated);
+        CourseDto result = withUnits(updated);
+        unitContentStore.offload(result);
+        courseCache.writeThrough(result);
+        return result;
     }
 
     @Override
-    @CacheEvict(value = "courses", allEntries = true)
     public void deleteCourse(UUID courseId) {
         Course course = courseRepository.findById(courseId)
                 .orElseThrow(() -> new ResourceNotFoundException("Course not found with ID: " + courseId));
 
         course.setDeleted(true);
-        courseRepository.save(course);
+        course.setDeletedAt(LocalDateTime.now());
+        // Flush so the indexes record the removal at the bumped version.
+        courseRepository.saveAndFlush(course);
+        courseFacetIndex.index(course);
+        filterCascadeIndex.index(course);
+        courseCache.evict(course);
     }
 
     @Override
     public Page<CourseDto> listCourses(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, request.getSize());
+        Pageable pageable = PageRequest.of(page, size, LIST_ORDER);
+
+        List<Course> courses;
+        long total;
+        // Facet-only filters are answered by the in-memory bitmap index; free-text
+        // search still needs the database.
+        if (courseFacetIndex.isReady() && (request.getSearchText() == null || request.getSearchText().isBlank())) {
+            CourseFacetIndex.Result result = courseFacetIndex.findPage(request, allowedStatuses, pageable.getOffset(), size);
+            courses = findAllInOrder(result.ids());
+            total = result.total();
+        } else {
+            Page<Course> coursePage = courseRepository.findAll(buildSpecification(request, allowedStatuses), pageable);
+            courses = coursePage.getContent();
+            total = coursePage.getTotalElements();
+        }
+
+        return new PageImpl<>(toCachedDtos(courses), pageable, total);
+    }
+
+    @Override
+    public KeysetSlice<CourseDto> scrollCourses(CourseListRequest request) {
+        int size = Math.max(1, request.getSize());
+        Specification<Course> spec = buildSpecification(request, allowedStatuses());
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            spec = spec.and(after(KeysetCursor.decode(request.getCursor())));
+        }
+
+        // Fetch one extra row to learn whether there is a next page without a count query.
+        List<Course> rows = courseRepository.findBy(spec, q -> q.sortBy(LIST_ORDER).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<Course> courses = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Course last = courses.get(courses.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new KeysetSlice<>(toCachedDtos(courses), size, hasNext, nextCursor);
+    }
+
+    @Override
+    public Page<CourseCardDto> listCourseCards(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, request.getSize());
+        Pageable pageable = PageRequest.of(page, size, LIST_ORDER);
+
+        if (courseFacetIndex.isReady() && (request.getSearchText() == null || request.getSearchText().isBlank())) {
+            CourseFacetIndex.Result result = courseFacetIndex.findPage(request, allowedStatuses, pageable.getOffset(), size);
+            Specification<Course> byIds = (root, query, cb) -> root.get("id").in(result.ids());
+            Map<UUID, CourseCardDto> byId = result.ids().isEmpty()
+                    ? Map.of()
+                    : courseRepository.findCards(byIds, Sort.unsorted(), 0, result.ids().size()).stream()
+                            .collect(Collectors.toMap(CourseCardDto::getId, Function.identity()));
+            List<CourseCardDto> cards = result.ids().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(cards, pageable, result.total());
+        }
+
+        Specification<Course> spec = buildSpecification(request, allowedStatuses);
+        List<CourseCardDto> cards = courseRepository.findCards(spec, pageable.getSort(), pageable.getOffset(), size);
+        return new PageImpl<>(cards, pageable, courseRepository.count(spec));
+    }
+
+    @Override
+    public KeysetSlice<CourseCardDto> scrollCourseCards(CourseListRequest request) {
+        int size = Math.max(1, request.getSize());
+        Specification<Course> spec = buildSpecification(request, allowedStatuses());
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            spec = spec.and(after(KeysetCursor.decode(request.getCursor())));
+        }
+
+        List<CourseCardDto> rows = courseRepository.findCards(spec, LIST_ORDER, 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<CourseCardDto> cards = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CourseCardDto last = cards.get(cards.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new KeysetSlice<>(cards, size, hasNext, nextCursor);
+    }
+
+    @Override
+    public FacetCountsDto getFacetCounts(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+        if (courseFacetIndex.isReady() && (request.getSearchText() == null || request.getSearchText().isBlank())) {
+            return courseFacetIndex.countFacets(request, allowedStatuses);
+        }
+        return courseRepository.countFacets(buildSpecification(request, allowedStatuses));
+    }
+
+    /**
+     * Weak tag of a list request: the request itself, the caller's visible
+     * statuses and the count and latest updatedAt of the filtered set.
+     */
+    @Override
+    public String getListETag(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+        CourseRepositoryCustom.ListStamp stamp =
+                courseRepository.findListStamp(buildSpecification(request, allowedStatuses));
+        return ETags.weak(request, allowedStatuses, stamp.count(), stamp.lastUpdated());
+    }
+
+    /**
+     * Streams every course matching the list filters, newest first, with its
+     * units to the given output. Courses come from a read-only server-side
+     * cursor and units are fetched per batch of courses, so only one batch is
+     * ever held in memory.
+     */
+    @Override
+    public void exportCourses(CourseListRequest request, String format, OutputStream out) throws IOException {
+        CourseExportWriter writer = CourseExportWriter.of(format, out, JSON);
+        Specification<Course> spec = buildSpecification(request, allowedStatuses());
+
+        writer.begin();
+        List<CourseDto> batch = new ArrayList<>(EXPORT_BATCH_SIZE);
+        try (Stream<CourseDto> rows = courseRepository.streamCourses(spec, LIST_ORDER, EXPORT_FETCH_SIZE)) {
+            Iterator<CourseDto> it = rows.iterator();
+            while (it.hasNext()) {
+                batch.add(it.next());
+                if (batch.size() == EXPORT_BATCH_SIZE) {
+                    writeExportBatch(writer, batch);
+                    batch.clear();
+                }
+            }
+        }
+        writeExportBatch(writer, batch);
+        writer.flush();
+    }
+
+    private void writeExportBatch(CourseExportWriter writer, List<CourseDto> batch) throws IOException {
+        if (batch.isEmpty()) return;
+        Map<UUID, List<UnitDto>> unitsByCourse = unitRepository.findDtosByCourseIdIn(
+                        batch.stream().map(CourseDto::getId).collect(Collectors.toList())).stream()
+                .collect(Collectors.groupingBy(UnitDto::getCourseId));
+        for (CourseDto course : batch) {
+            course.setUnits(unitsByCourse.getOrDefault(course.getId(), List.of()));
+            writer.write(course);
+        }
+        writer.flush();
+    }
+
+    private List<CourseDto> toCachedDtos(List<Course> courses) {
+        Map<UUID, CourseDto> cachedById = courseCache.getAll(
+                courses.stream().map(Course::getId).collect(Collectors.toList()));
+
+        // Units for every course the cache could not serve, in one IN (...) query.
+        List<UUID> missingIds = courses.stream()
+                .filter(course -> !isFresh(cachedById.get(course.getId()), course))
+                .map(Course::getId)
+                .collect(Collectors.toList());
+        Map<UUID, List<UnitDto>> unitsByCourse = missingIds.isEmpty()
+                ? Map.of()
+                : unitRepository.findDtosByCourseIdIn(missingIds).stream()
+                        .collect(Collectors.groupingBy(UnitDto::getCourseId));
+
+        List<CourseDto> misses = new ArrayList<>();
+        List<CourseDto> dtoList = courses.stream()
+                .map(course -> {
+                    CourseDto cached = cachedById.get(course.getId());
+                    if (isFresh(cached, course)) {
+                        return cached;
+                    }
+                    CourseDto dto = courseMapper.toDto(course, null);
+                    dto.setUnits(new ArrayList<>(unitsByCourse.getOrDefault(course.getId(), List.of())));
+                    unitContentStore.offload(dto);
+                    misses.add(dto);
+                    return dto;
+                })
+                .collect(Collectors.toList());
+
+        if (!misses.isEmpty()) {
+            courseCache.populateAll(misses);
+        }
+        return dtoList;
+    }
+
+    /**
+     * The course with its units read as DTOs. Unit.content is a lazy
+     * attribute, so mapping the entities would read each body separately.
+     */
+    private CourseDto withUnits(Course course) {
+        CourseDto dto = courseMapper.toDto(course, null);
+        dto.setUnits(unitRepository.findDtosByCourseIdIn(List.of(course.getId())));
+        return dto;
+    }
+
+    private static boolean isFresh(CourseDto cached, Course course) {
+        return cached != null && cached.getVersion() != null && cached.getVersion() >= course.getVersion();
+    }
+
+    private List<String> allowedStatuses() {
         boolean isAdmin = SecurityContextHolder.getContext().getAuthentication() != null &&
                 SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
                         .map(GrantedAuthority::getAuthority)
@@ -130,8 +420,62 @@ public Object getCourseById(UUID id) {
         if (isAdmin) {
             allowedStatuses.add("draft");
         }
+        return allowedStatuses;
+    }
+
+    // Filter values match exactly and blank ones are ignored, here and in
+    // CourseFacetIndex, so a list gives the same courses on either path.
+    private static List<String> nonBlank(List<String> values) {
+        if (values == null) return List.of();
+        return values.stream().filter(value -> value != null && !value.isBlank()).toList();
+    }
+
+    // OR of jsonb containment checks (column @> '["value"]'), one per non-blank value,
+    // so the GIN index on the column can be used.
+    private static void addContainsAny(List<Predicate> predicates, CriteriaBuilder cb,
+                                       Expression<?> column, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        List<Predicate> anyOf = new ArrayList<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                anyOf.add(cb.isTrue(cb.function("json_array_contains", Boolean.class, column,
+                        cb.literal(toJsonArray(value)))));
+            }
+        }
+        if (!anyOf.isEmpty()) {
+            predicates.add(cb.or(anyOf.toArray(new Predicate[0])));
+        }
+    }
+
+    private static String toJsonArray(String value) {
+        try {
+            return JSON.writeValueAsString(List.of(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid filter value: " + value, e);
+        }
+    }
+
+    private static Specification<Course> after(KeysetCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.id())));
+    }
+
+    private List<Course> findAllInOrder(List<UUID> ids) {
+        Map<UUID, Course> byId = courseRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Course::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-        Specification<Course> spec = (root, query, cb) -> {
+    private Specification<Course> buildSpecification(CourseListRequest request, List<String> allowedStatuses) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             predicates.add(cb.isFalse(root.get("deleted")));
@@ -145,73 +489,16 @@ public Object getCourseById(UUID id) {
                 predicates.add(cb.or(nameLike, descLike));
             }
 
-            if (request.getBoards() != null && !request.getBoards().isEmpty()) {
-                predicates.add(root.get("board").in(request.getBoards()));
+            List<String> boards = nonBlank(request.getBoards());
+            if (!boards.isEmpty()) {
+                predicates.add(root.get("board").in(boards));
             }
 
-if (request.getMediums() != null && !request.getMediums().isEmpty()) {
-    List<Predicate> mediumPreds = new ArrayList<>();
-    for (String m : request.getMediums()) {
-        if (m != null && !m.isBlank()) {
-            mediumPreds.add(cb.like(cb.lower(root.get("medium")), "%" + m.toLowerCase() + "%"));
-        }
-    }
-    if (!mediumPreds.isEmpty()) {
-        predicates.add(cb.or(mediumPreds.toArray(new Predicate[0])));
-    }
-}
-
-if (request.getGrades() != null && !request.getGrades().isEmpty()) {
-    List<Predicate> gradePreds = new ArrayList<>();
-    for (String g : request.getGrades()) {
-        if (g != null && !g.isBlank()) {
-            gradePreds.add(cb.like(cb.lower(root.get("grade")), "%" + g.toLowerCase() + "%"));
-        }
-    }
-    if (!gradePreds.isEmpty()) {
-        predicates.add(cb.or(gradePreds.toArray(new Predicate[0])));
-    }
-}
-
-if (request.getSubjects() != null && !request.getSubjects().isEmpty()) {
-    List<Predicate> subjectPreds = new ArrayList<>();
-    for (String s : request.getSubjects()) {
-        if (s != null && !s.isBlank()) {
-            subjectPreds.add(cb.like(cb.lower(root.get("subject")), "%" + s.toLowerCase() + "%"));
-        }
-    }
-    if (!subjectPreds.isEmpty()) {
-        predicates.add(cb.or(subjectPreds.toArray(new Predicate[0])));
-    }
-}
+            addContainsAny(predicates, cb, root.get("medium"), request.getMediums());
+            addContainsAny(predicates, cb, root.get("grade"), request.getGrades());
+            addContainsAny(predicates, cb, root.get("subject"), request.getSubjects());
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        int page = Math.max(0, request.getPage());
-        int size = Math.max(1, request.getSize());
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        Page<Course> coursePage = courseRepository.findAll(spec, pageable);
-
-        List<CourseDto> dtoList = coursePage.getContent().stream()
-                .map(course -> {
-                    UUID id = course.getId();
-                    Cache cache = cacheManager.getCache("courses");
-                    if (cache != null) {
-                        Cache.ValueWrapper wrapper = cache.get(id);
-                        if (wrapper != null && wrapper.get() instanceof CourseDto) {
-                            return (CourseDto) wrapper.get();
-                        }
-                    }
-                    CourseDto dto = courseMapper.toDto(course);
-                    if (cache != null) {
-                        cache.put(id, dto);
-                    }
-                    return dto;
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtoList, pageable, coursePage.getTotalElements());
     }
 }
@@ -0,0 +1,240 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.UnitCache;
+import com.sanketika.course_backend.dto.UnitBatchRequest;
+import com.sanketika.course_backend.dto.UnitBatchResultDto;
+import com.sanketika.course_backend.exceptions.InvalidUnitBatchException;
+import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Applies a list of unit creates, updates and deletes in one transaction,
+ * instead of one request (and a unit and a course lookup) per change.
+ *
+ * The units and courses a batch refers to are read with one query each, the
+ * units locked for the rest of the transaction. Each kind of change is then
+ * written as one JDBC batch, the touched courses get their version bumped in
+ * one more, and the unit and course caches are invalidated in a single pass
+ * after commit. Any invalid operation rejects the whole batch.
+ */
+@Service
+public class UnitBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnitBatchService.class);
+
+    static final String CREATE = "create";
+    static final String UPDATE = "update";
+    static final String DELETE = "delete";
+
+    private static final String INSERT_UNIT =
+            "INSERT INTO units (id, title, content, course_id, version, created_at, updated_at) VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String UPDATE_UNIT =
+            "UPDATE units SET title = ?, content = ?, course_id = ?, version = version + 1, updated_at = ? WHERE id = ?";
+
+    private static final String DELETE_UNIT = "DELETE FROM units WHERE id = ?";
+
+    // The same change touch() makes through JPA: a unit change is a change of its course.
+    private static final String TOUCH_COURSE =
+            "UPDATE courses SET version = version + 1, updated_at = ? WHERE id = ?";
+
+    private record Target(UUID courseId, long version) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnitCache unitCache;
+    private final CourseCache courseCache;
+    private final int maxOperations;
+
+    public UnitBatchService(JdbcTemplate jdbcTemplate,
+                            UnitCache unitCache,
+                            CourseCache courseCache,
+                            @Value("${app.unit-batch.max-operations:1000}") int maxOperations) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.unitCache = unitCache;
+        this.courseCache = courseCache;
+        this.maxOperations = maxOperations;
+    }
+
+    @Transactional
+    public UnitBatchResultDto apply(UnitBatchRequest request) {
+        List<UnitBatchRequest.Operation> operations = request != null ? request.getOperations() : null;
+        if (operations == null || operations.isEmpty()) {
+            throw new InvalidUnitBatchException("No operations");
+        }
+        if (operations.size() > maxOperations) {
+            throw new InvalidUnitBatchException("At most " + maxOperations + " operations per batch");
+        }
+
+        List<String> kinds = new ArrayList<>(operations.size());
+        Set<UUID> unitIds = new HashSet<>();
+        Set<UUID> courseIds = new HashSet<>();
+        for (int i = 0; i < operations.size(); i++) {
+            UnitBatchRequest.Operation operation = operations.get(i);
+            String kind = validate(i, operation);
+            kinds.add(kind);
+            if (!kind.equals(CREATE) && !unitIds.add(operation.getId())) {
+                throw new InvalidUnitBatchException("Operation " + i + ": unit " + operation.getId()
+                        + " appears in more than one operation");
+            }
+            if (!kind.equals(DELETE) && operation.getCourseId() != null) {
+                courseIds.add(operation.getCourseId());
+            }
+        }
+
+        Map<UUID, Target> targets = lockUnits(unitIds);
+        Set<UUID> existingCourses = findCourses(courseIds);
+
+        LocalDateTime clock = LocalDateTime.now();
+        Timestamp now = Timestamp.valueOf(clock);
+        UnitBatchResultDto result = new UnitBatchResultDto();
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        Set<UUID> touchedCourses = new TreeSet<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            UnitBatchRequest.Operation operation = operations.get(i);
+            String kind = kinds.get(i);
+            if (operation.getCourseId() != null && !kind.equals(DELETE)
+                    && !existingCourses.contains(operation.getCourseId())) {
+                throw new ResourceNotFoundException("Operation " + i + ": course not found");
+            }
+
+            if (kind.equals(CREATE)) {
+                UUID id = UUID.randomUUID();
+                // Units are listed by createdAt: a microsecond apart keeps them in request order.
+                Timestamp createdAt = Timestamp.valueOf(clock.plusNanos(inserts.size() * 1000L));
+                inserts.add(new Object[]{id, operation.getTitle(), operation.getContent(), operation.getCourseId(), createdAt, createdAt});
+                addIfPresent(touchedCourses, operation.getCourseId());
+                result.getResults().add(new UnitBatchResultDto.OperationResult(i, kind, id, 0L));
+                continue;
+            }
+
+            Target target = targets.get(operation.getId());
+            if (target == null) {
+                throw new ResourceNotFoundException("Operation " + i + ": unit not found");
+            }
+            addIfPresent(touchedCourses, target.courseId());
+            if (kind.equals(UPDATE)) {
+                UUID courseId = operation.getCourseId() != null ? operation.getCourseId() : target.courseId();
+                updates.add(new Object[]{operation.getTitle(), operation.getContent(), courseId, now, operation.getId()});
+                addIfPresent(touchedCourses, courseId);
+                result.getResults().add(new UnitBatchResultDto.OperationResult(i, kind, operation.getId(), target.version() + 1));
+            } else {
+                deletes.add(new Object[]{operation.getId()});
+                result.getResults().add(new UnitBatchResultDto.OperationResult(i, kind, operation.getId(), null));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_UNIT, inserts);
+        jdbcTemplate.batchUpdate(UPDATE_UNIT, updates);
+        jdbcTemplate.batchUpdate(DELETE_UNIT, deletes);
+        List<Object[]> touches = new ArrayList<>(touchedCourses.size());
+        touchedCourses.forEach(courseId -> touches.add(new Object[]{now, courseId}));
+        jdbcTemplate.batchUpdate(TOUCH_COURSE, touches);
+
+        result.setCreated(inserts.size());
+        result.setUpdated(updates.size());
+        result.setDeleted(deletes.size());
+
+        unitCache.evictAll(evictedVersions(targets));
+        courseCache.evictAll(courseVersions(touchedCourses));
+        logger.info("Unit batch: {} created, {} updated, {} deleted across {} courses",
+                result.getCreated(), result.getUpdated(), result.getDeleted(), touchedCourses.size());
+        return result;
+    }
+
+    private static String validate(int index, UnitBatchRequest.Operation operation) {
+        if (operation == null || operation.getOp() == null) {
+            throw new InvalidUnitBatchException("Operation " + index + ": op is required");
+        }
+        String kind = operation.getOp().toLowerCase(Locale.ROOT);
+        switch (kind) {
+            case CREATE, UPDATE -> {
+                if (kind.equals(UPDATE) && operation.getId() == null) {
+                    throw new InvalidUnitBatchException("Operation " + index + ": id is required");
+                }
+                if (operation.getTitle() == null || operation.getTitle().isBlank()) {
+                    throw new InvalidUnitBatchException("Operation " + index + ": title is required");
+                }
+            }
+            case DELETE -> {
+                if (operation.getId() == null) {
+                    throw new InvalidUnitBatchException("Operation " + index + ": id is required");
+                }
+            }
+            default -> throw new InvalidUnitBatchException("Operation " + index + ": unknown op " + operation.getOp());
+        }
+        return kind;
+    }
+
+    // Locked in id order, so two batches over the same units cannot deadlock.
+    private Map<UUID, Target> lockUnits(Set<UUID> ids) {
+        Map<UUID, Target> targets = new HashMap<>();
+        if (ids.isEmpty()) return targets;
+        jdbcTemplate.query(
+                "SELECT id, course_id, version FROM units WHERE id = ANY(?) ORDER BY id FOR UPDATE",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                rs -> {
+                    targets.put(rs.getObject("id", UUID.class),
+                            new Target(rs.getObject("course_id", UUID.class), rs.getLong("version")));
+                });
+        return targets;
+    }
+
+    private Set<UUID> findCourses(Set<UUID> ids) {
+        Set<UUID> found = new HashSet<>();
+        if (ids.isEmpty()) return found;
+        jdbcTemplate.query(
+                "SELECT id FROM courses WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                rs -> {
+                    found.add(rs.getObject("id", UUID.class));
+                });
+        return found;
+    }
+
+    // Read back after the touch: the caches keep these as the versions an evicted course may return at.
+    private Map<UUID, Long> courseVersions(Set<UUID> ids) {
+        Map<UUID, Long> versions = new HashMap<>();
+        if (ids.isEmpty()) return versions;
+        jdbcTemplate.query(
+                "SELECT id, version FROM courses WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                rs -> {
+                    versions.put(rs.getObject("id", UUID.class), rs.getLong("version"));
+                });
+        return versions;
+    }
+
+    // Every updated or deleted unit ends one version past the row locked here, so
+    // that is the version its eviction leaves behind: older reads cannot land.
+    private static Map<UUID, Long> evictedVersions(Map<UUID, Target> targets) {
+        Map<UUID, Long> versions = new HashMap<>();
+        targets.forEach((id, target) -> versions.put(id, target.version() + 1));
+        return versions;
+    }
+
+    private static void addIfPresent(Set<UUID> ids, UUID id) {
+        if (id != null) ids.add(id);
+    }
+}
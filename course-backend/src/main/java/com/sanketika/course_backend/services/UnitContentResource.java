@@ -0,0 +1,108 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import com.sanketika.course_backend.repositories.UnitRepository;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * The UTF-8 body of one unit version as a Resource, for the ranged content
+ * endpoint. Nothing is read up front: a stream fetches the body in slices of
+ * {@link #SLICE_SIZE} bytes as it is read, and skipping (the start of a byte
+ * range) costs no query, so a range request reads only the slices it covers.
+ *
+ * Every slice is read at the version the resource was created for; a unit
+ * updated or deleted mid-stream ends the stream with an IOException.
+ */
+public class UnitContentResource extends AbstractResource {
+
+    static final int SLICE_SIZE = 64 * 1024;
+
+    private final UnitRepository unitRepository;
+    private final UUID id;
+    private final long version;
+    private final long length;
+
+    UnitContentResource(UnitRepository unitRepository, UnitSummaryDto unit) {
+        this.unitRepository = unitRepository;
+        this.id = unit.getId();
+        this.version = unit.getVersion();
+        this.length = unit.getContentLength() != null ? unit.getContentLength() : 0;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public long contentLength() {
+        return length;
+    }
+
+    // The extension gives ranged parts a text/plain content type.
+    @Override
+    public String getFilename() {
+        return id + ".txt";
+    }
+
+    @Override
+    public String getDescription() {
+        return "content of unit " + id + " at version " + version;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new SliceInputStream();
+    }
+
+    private class SliceInputStream extends InputStream {
+
+        private long position;
+        private byte[] slice = new byte[0];
+        private long sliceStart;
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) return -1;
+            return slice[(int) (position++ - sliceStart)] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            if (!fill()) return -1;
+            int n = (int) Math.min(len, sliceStart + slice.length - position);
+            System.arraycopy(slice, (int) (position - sliceStart), b, off, n);
+            position += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, length - position));
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            long buffered = sliceStart + slice.length - position;
+            return buffered > 0 ? (int) buffered : 0;
+        }
+
+        // Makes the byte at position readable; false at the end of the body.
+        private boolean fill() throws IOException {
+            if (position >= length) return false;
+            if (position >= sliceStart && position < sliceStart + slice.length) return true;
+            int size = (int) Math.min(SLICE_SIZE, length - position);
+            slice = unitRepository.findContentSlice(id, version, (int) position + 1, size)
+                    .filter(bytes -> bytes.length > 0)
+                    .orElseThrow(() -> new IOException("Unit " + id + " changed while its content was read"));
+            sliceStart = position;
+            return true;
+        }
+    }
+}
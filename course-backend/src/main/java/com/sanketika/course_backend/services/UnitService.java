@@ -1,13 +1,23 @@
 package com.sanketika.course_backend.services;
 
+import com.sanketika.course_backend.dto.KeysetSlice;
 import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitListRequest;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
 public interface UnitService {
-    List<UnitDto> getAllUnits();
-    List<UnitDto> getUnitsByCourse(UUID id);
+    KeysetSlice<UnitSummaryDto> listUnits(UnitListRequest request);
+    void exportUnits(UnitListRequest request, OutputStream out) throws IOException;
+    List<UnitSummaryDto> getUnitsByCourse(UUID id);
     UnitDto getUnitById(UUID id);
+    UnitContentResource getUnitContent(UUID id);
+    Long getUnitVersion(UUID id);
+    Long getUnitsVersion(UUID courseId);
     void deleteUnit(UUID id);
     UnitDto updateUnit(UUID id, UnitDto dto);
     UnitDto createUnit(UnitDto dto);
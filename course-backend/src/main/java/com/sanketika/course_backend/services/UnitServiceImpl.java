@@ -1,28 +1,46 @@
 package com.sanketika.course_backend.services;
 
+import com.sanketika.course_backend.cache.CourseCache;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sanketika.course_backend.cache.UnitCache;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.dto.KeysetSlice;
 import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitListRequest;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
 import com.sanketika.course_backend.entity.Course;
 import com.sanketika.course_backend.entity.Unit;
 import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
 import com.sanketika.course_backend.mapper.UnitMapper;
 import com.sanketika.course_backend.repositories.CourseRepository;
 import com.sanketika.course_backend.repositories.UnitRepository;
+import com.sanketika.course_backend.utils.KeysetCursor;
+import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class UnitServiceImpl implements UnitService {
     private static final Logger logger = LoggerFactory.getLogger(UnitService.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+
+    // Rows per round trip of the export cursor.
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     @Autowired
     private UnitRepository unitRepository;
 
@@ -32,30 +50,115 @@ public class UnitServiceImpl implements UnitService {
     @Autowired
     private UnitMapper unitMapper;
 
+    @Autowired
+    private CourseCache courseCache;
+
+    @Autowired
+    private UnitCache unitCache;
+
+    @Autowired
+    private UnitContentStore unitContentStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Lists carry no bodies; GET /api/units/{id}/content serves those.
+
+    /**
+     * One keyset page in creation order. The page is read with one extra row
+     * to learn whether there is a next page, and no count query is run.
+     */
     @Override
-    public List<UnitDto> getAllUnits() {
-        return unitRepository.findAll().stream()
-                .map(unitMapper::toDto)
-                .collect(Collectors.toList());
+    public KeysetSlice<UnitSummaryDto> listUnits(UnitListRequest request) {
+        int size = Math.min(MAX_PAGE_SIZE, Math.max(1, request.getSize()));
+        KeysetCursor after = request.getCursor() != null && !request.getCursor().isBlank()
+                ? KeysetCursor.decode(request.getCursor())
+                : null;
+
+        List<UnitSummaryDto> rows = unitRepository.findSummaries(
+                request.getCourseId(), request.getTitle(), after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<UnitSummaryDto> units = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UnitSummaryDto last = units.get(units.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new KeysetSlice<>(units, size, hasNext, nextCursor);
     }
 
+    /**
+     * Writes every unit summary matching the filters as NDJSON, one line per
+     * unit in creation order, straight from a read-only server-side cursor.
+     */
+    @Transactional
     @Override
-    public List<UnitDto> getUnitsByCourse(UUID courseId) {
-        return unitRepository.findByCourseId(courseId).stream()
-                .map(unitMapper::toDto)
-                .collect(Collectors.toList());
+    public void exportUnits(UnitListRequest request, OutputStream out) throws IOException {
+        boolean empty = true;
+        // One generator for the whole export, flushed only when its buffer fills.
+        try (Stream<UnitSummaryDto> rows = unitRepository.streamSummaries(
+                     request.getCourseId(), request.getTitle(), EXPORT_FETCH_SIZE);
+             SequenceWriter writer = objectMapper.writerFor(UnitSummaryDto.class)
+                     .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                     .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                     .withRootValueSeparator("\n")
+                     .writeValues(out)) {
+            Iterator<UnitSummaryDto> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(it.next());
+                empty = false;
+            }
+        }
+        if (!empty) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    @Override
+    public List<UnitSummaryDto> getUnitsByCourse(UUID courseId) {
+        return unitRepository.findSummariesByCourseId(courseId);
     }
 
-    @Cacheable(value = "units", key = "#id")
     @Override
     public UnitDto getUnitById(UUID id) {
-        Unit unit = unitRepository.findById(id)
+        UnitDto cached = unitCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        UnitDto dto = unitRepository.findDtoById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found"));
         logger.info("Fetching course from DB with id {}", id);
-        return unitMapper.toDto(unit);
+        unitContentStore.offload(dto);
+        // Versioned: an update or delete that committed since the read wins.
+        unitCache.populate(dto);
+        return dto;
+    }
+
+    @Override
+    public UnitContentResource getUnitContent(UUID id) {
+        UnitSummaryDto unit = unitRepository.findSummaryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Unit not found"));
+        return new UnitContentResource(unitRepository, unit);
     }
 
-    @CachePut(value = "units", key = "#id")
+    @Override
+    public Long getUnitVersion(UUID id) {
+        return unitRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Unit not found"));
+    }
+
+    /**
+     * The units of a course change only together with the course version (see
+     * touch), so that version tags the list. Null if the course does not exist.
+     */
+    @Override
+    public Long getUnitsVersion(UUID courseId) {
+        return courseRepository.findVersionById(courseId).orElse(null);
+    }
+
+    @Transactional
     @Override
     public UnitDto updateUnit(UUID id, UnitDto dto) {
         Unit existing = unitRepository.findById(id)
@@ -63,18 +166,25 @@ public class UnitServiceImpl implements UnitService {
 
         existing.setTitle(dto.getTitle());
         existing.setContent(dto.getContent());
+        touch(existing.getCourse());
 
         if (dto.getCourseId() != null) {
             Course course = courseRepository.findById(dto.getCourseId())
                     .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
             existing.setCourse(course);
+            touch(course);
         }
 
-        Unit updated = unitRepository.save(existing);
+        // Flush so the returned and cached DTO carry the bumped version.
+        Unit updated = unitRepository.saveAndFlush(existing);
         logger.info("Updating course with id {}", id);
-        return unitMapper.toDto(updated);
+        UnitDto result = unitMapper.toDto(updated);
+        unitContentStore.offload(result);
+        unitCache.writeThrough(result);
+        return result;
     }
 
+    @Transactional
     @Override
     public UnitDto createUnit(UnitDto dto) {
         Unit unit = unitMapper.toEntity(dto);
@@ -84,6 +194,7 @@ public class UnitServiceImpl implements UnitService {
             Course course = courseRepository.findById(dto.getCourseId())
                     .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
             unit.setCourse(course);
+            touch(course);
         }
 
         Unit saved = unitRepository.save(unit);
@@ -91,13 +202,26 @@ public class UnitServiceImpl implements UnitService {
         return unitMapper.toDto(saved);
     }
 
-    @CacheEvict(value = "units", key = "#id")
+    @Transactional
     @Override
     public void deleteUnit(UUID id) {
         Unit unit = unitRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Unit not found"));
         logger.info("Deleting course with id {}", id);
+        touch(unit.getCourse());
         unitRepository.delete(unit);
+        // The delete only succeeds at the version read here, so no committed
+        // update can carry a newer one than the tombstone.
+        unitCache.evict(id, unit.getVersion() + 1);
+    }
 
+    /**
+     * A course DTO embeds its units, so a unit change is a change of the
+     * course: bump its version and updatedAt, and drop the cached DTO.
+     */
+    private void touch(Course course) {
+        if (course == null) return;
+        course.setUpdatedAt(LocalDateTime.now());
+        courseCache.evict(course);
     }
 }
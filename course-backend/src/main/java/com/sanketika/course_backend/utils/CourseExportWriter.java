@@ -0,0 +1,139 @@
+package com.sanketika.course_backend.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.exceptions.UnsupportedExportFormatException;
+import com.sanketika.course_backend.dto.UnitDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes exported courses to a response stream one at a time.
+ *
+ * NDJSON emits one CourseDto (with units) per line. CSV emits one line per
+ * unit with the course columns repeated, or a single line with empty unit
+ * columns for a course without units; list columns are joined with '|'.
+ */
+public abstract class CourseExportWriter {
+
+    public static final String NDJSON = "ndjson";
+    public static final String CSV = "csv";
+
+    protected final Writer out;
+
+    protected CourseExportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    public static CourseExportWriter of(String format, OutputStream out, ObjectMapper objectMapper) {
+        return switch (format == null ? NDJSON : format.toLowerCase(Locale.ROOT)) {
+            case NDJSON -> new Ndjson(out, objectMapper);
+            case CSV -> new Csv(out);
+            default -> throw new UnsupportedExportFormatException(format);
+        };
+    }
+
+    public static boolean isSupported(String format) {
+        return NDJSON.equalsIgnoreCase(format) || CSV.equalsIgnoreCase(format);
+    }
+
+    public static String contentType(String format) {
+        return CSV.equalsIgnoreCase(format) ? "text/csv" : "application/x-ndjson";
+    }
+
+    public abstract void begin() throws IOException;
+
+    public abstract void write(CourseDto course) throws IOException;
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private static final class Ndjson extends CourseExportWriter {
+        private final ObjectWriter writer;
+
+        Ndjson(OutputStream out, ObjectMapper objectMapper) {
+            super(out);
+            this.writer = objectMapper.writerFor(CourseDto.class)
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(CourseDto course) throws IOException {
+            writer.writeValue(out, course);
+            out.write('\n');
+        }
+    }
+
+    private static final class Csv extends CourseExportWriter {
+
+        Csv(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void begin() throws IOException {
+            out.write("id,name,description,board,medium,grade,subject,status,unit_id,unit_title,unit_content\n");
+        }
+
+        @Override
+        public void write(CourseDto course) throws IOException {
+            List<UnitDto> units = course.getUnits();
+            if (units == null || units.isEmpty()) {
+                writeLine(course, null);
+                return;
+            }
+            for (UnitDto unit : units) {
+                writeLine(course, unit);
+            }
+        }
+
+        private void writeLine(CourseDto course, UnitDto unit) throws IOException {
+            cell(course.getId() != null ? course.getId().toString() : null, false);
+            cell(course.getName(), false);
+            cell(course.getDescription(), false);
+            cell(course.getBoard(), false);
+            cell(join(course.getMedium()), false);
+            cell(join(course.getGrade()), false);
+            cell(join(course.getSubject()), false);
+            cell(course.getStatus(), false);
+            cell(unit != null && unit.getId() != null ? unit.getId().toString() : null, false);
+            cell(unit != null ? unit.getTitle() : null, false);
+            cell(unit != null ? unit.getContent() : null, true);
+            out.write('\n');
+        }
+
+        private void cell(String value, boolean last) throws IOException {
+            if (value != null) {
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                        || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                    out.write('"');
+                    out.write(value.replace("\"", "\"\""));
+                    out.write('"');
+                } else {
+                    out.write(value);
+                }
+            }
+            if (!last) {
+                out.write(',');
+            }
+        }
+
+        private static String join(List<String> values) {
+            return values == null ? null : String.join("|", values);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.sanketika.course_backend.utils;
+
+import org.springframework.http.ETag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Entity tags for conditional GETs.
+ *
+ * A single course or unit is tagged with its {@code @Version}, so the check
+ * needs one column instead of the payload. A course list gets a weak tag
+ * over the request and a stamp of the filtered set (row count and latest
+ * updatedAt): responses with the same tag may differ in envelope fields but
+ * carry the same courses.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String strong(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    public static String weak(Object... parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (Object part : parts) {
+            digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the current tag. Uses the weak
+     * comparison RFC 9110 prescribes for If-None-Match.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || etag == null) {
+            return false;
+        }
+        ETag current = ETag.create(etag);
+        for (ETag candidate : ETag.parse(ifNoneMatch)) {
+            if (candidate.isWildcard() || candidate.compare(current, false)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
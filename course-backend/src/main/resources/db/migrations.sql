@@ -0,0 +1,64 @@
+-- Runs after Hibernate's ddl-auto=update (spring.jpa.defer-datasource-initialization),
+-- so every statement must be idempotent. Statements are separated by '@@'.
+
+-- medium / grade / subject used to be JSON text written by StringListConverter.
+DO $$
+DECLARE
+    col text;
+BEGIN
+    FOREACH col IN ARRAY ARRAY['medium', 'grade', 'subject'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'courses' AND column_name = col AND data_type <> 'jsonb') THEN
+            EXECUTE format('ALTER TABLE courses ALTER COLUMN %I TYPE jsonb USING COALESCE(NULLIF(%I, ''''), ''[]'')::jsonb', col, col);
+        END IF;
+    END LOOP;
+END $$@@
+
+-- jsonb_path_ops serves the @> containment used by the list and filter queries.
+-- Those only read live rows, so the indexes are partial; full ones from before are replaced.
+DO $$
+DECLARE
+    col text;
+BEGIN
+    FOREACH col IN ARRAY ARRAY['medium', 'grade', 'subject'] LOOP
+        IF EXISTS (SELECT 1 FROM pg_indexes
+                   WHERE indexname = format('idx_courses_%s_gin', col) AND indexdef NOT LIKE '%WHERE%') THEN
+            EXECUTE format('DROP INDEX idx_courses_%s_gin', col);
+        END IF;
+    END LOOP;
+END $$@@
+CREATE INDEX IF NOT EXISTS idx_courses_medium_gin ON courses USING gin (medium jsonb_path_ops) WHERE deleted = false@@
+CREATE INDEX IF NOT EXISTS idx_courses_grade_gin ON courses USING gin (grade jsonb_path_ops) WHERE deleted = false@@
+CREATE INDEX IF NOT EXISTS idx_courses_subject_gin ON courses USING gin (subject jsonb_path_ops) WHERE deleted = false@@
+
+-- Keyset scan of listCourses: live rows of a status, newest first. Replaces the
+-- full (deleted, status, created_at DESC, id) index the entity used to declare.
+DROP INDEX IF EXISTS idx_courses_deleted_status_created_id@@
+CREATE INDEX IF NOT EXISTS idx_courses_live_status_created_id ON courses (status, created_at DESC, id) WHERE deleted = false@@
+
+-- Soft deletes: deleted_at dates them for the archive job; rows deleted before
+-- the column existed count from their last update.
+UPDATE courses SET deleted_at = updated_at WHERE deleted = true AND deleted_at IS NULL@@
+CREATE INDEX IF NOT EXISTS idx_courses_deleted_at ON courses (deleted_at) WHERE deleted = true@@
+
+-- Archived courses and their units (CourseArchiveService): the live columns plus archived_at.
+CREATE TABLE IF NOT EXISTS courses_archive (LIKE courses INCLUDING DEFAULTS)@@
+ALTER TABLE courses_archive ADD COLUMN IF NOT EXISTS archived_at timestamp(6)@@
+CREATE UNIQUE INDEX IF NOT EXISTS idx_courses_archive_id ON courses_archive (id)@@
+CREATE TABLE IF NOT EXISTS units_archive (LIKE units INCLUDING DEFAULTS)@@
+ALTER TABLE units_archive ADD COLUMN IF NOT EXISTS archived_at timestamp(6)@@
+CREATE UNIQUE INDEX IF NOT EXISTS idx_units_archive_id ON units_archive (id)@@
+CREATE INDEX IF NOT EXISTS idx_units_archive_course_id ON units_archive (course_id)@@
+
+-- units.content was created as varchar(255) before it was mapped to text.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'units' AND column_name = 'content' AND data_type <> 'text') THEN
+        ALTER TABLE units ALTER COLUMN content TYPE text;
+    END IF;
+END $$@@
+
+-- Keyset order of the unit list, overall and within a course.
+CREATE INDEX IF NOT EXISTS idx_units_created_at_id ON units (created_at, id)@@
+CREATE INDEX IF NOT EXISTS idx_units_course_created_at_id ON units (course_id, created_at, id)@@
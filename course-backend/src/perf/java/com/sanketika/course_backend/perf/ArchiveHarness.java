@@ -0,0 +1,191 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.CourseBackendApplication;
+import com.sanketika.course_backend.dto.ArchiveRunDto;
+import com.sanketika.course_backend.dto.ArchiveStatsDto;
+import com.sanketika.course_backend.services.CourseArchiveService;
+import com.sanketika.course_backend.services.CourseImportService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Table and index sizes, and the cost of the live-path queries, before and
+ * after soft-deleted courses are archived. Loads a synthetic catalog into an
+ * embedded Postgres, soft-deletes a share of it 60 days ago, then measures:
+ *
+ * 1. the previous schema: full list and GIN indexes, deleted rows in place;
+ * 2. the partial (WHERE deleted = false) indexes, deleted rows still in place;
+ * 3. after CourseArchiveService has moved the deleted courses out and a plain
+ *    VACUUM has made their space reusable;
+ * 4. after VACUUM FULL, i.e. what the live tables shrink to once rewritten.
+ *
+ * Usage: ArchiveHarness [courses=50000] [deleted=0.4] [seed=42]
+ */
+public class ArchiveHarness {
+
+    private static final String[] FULL_INDEXES = {
+            "CREATE INDEX idx_courses_deleted_status_created_id ON courses (deleted, status, created_at DESC, id)",
+            "CREATE INDEX idx_courses_medium_gin ON courses USING gin (medium jsonb_path_ops)",
+            "CREATE INDEX idx_courses_grade_gin ON courses USING gin (grade jsonb_path_ops)",
+            "CREATE INDEX idx_courses_subject_gin ON courses USING gin (subject jsonb_path_ops)"
+    };
+
+    private static final String[] PARTIAL_INDEXES = {
+            "CREATE INDEX idx_courses_live_status_created_id ON courses (status, created_at DESC, id) WHERE deleted = false",
+            "CREATE INDEX idx_courses_medium_gin ON courses USING gin (medium jsonb_path_ops) WHERE deleted = false",
+            "CREATE INDEX idx_courses_grade_gin ON courses USING gin (grade jsonb_path_ops) WHERE deleted = false",
+            "CREATE INDEX idx_courses_subject_gin ON courses USING gin (subject jsonb_path_ops) WHERE deleted = false"
+    };
+
+    private static final String[] DROP_LIST_INDEXES = {
+            "DROP INDEX IF EXISTS idx_courses_deleted_status_created_id",
+            "DROP INDEX IF EXISTS idx_courses_live_status_created_id",
+            "DROP INDEX IF EXISTS idx_courses_medium_gin",
+            "DROP INDEX IF EXISTS idx_courses_grade_gin",
+            "DROP INDEX IF EXISTS idx_courses_subject_gin"
+    };
+
+    // The shapes listCourses (count and an offset page) and the filter cascade run.
+    private static final String[][] QUERIES = {
+            {"list count (medium @>)", "SELECT count(*) FROM courses c WHERE c.deleted = false AND c.status IN ('live') "
+                    + "AND c.medium @> '[\"Hindi\"]'"},
+            {"list page (offset 2000)", "SELECT c.id FROM courses c WHERE c.deleted = false AND c.status IN ('live') "
+                    + "ORDER BY c.created_at DESC, c.id DESC LIMIT 20 OFFSET 2000"},
+            {"distinct mediums of board", "SELECT DISTINCT m FROM courses c CROSS JOIN LATERAL "
+                    + "jsonb_array_elements_text(c.medium) AS m WHERE c.board = 'CBSE' AND c.deleted = false"}
+    };
+
+    public static void main(String[] args) throws Exception {
+        int courses = 50_000;
+        double deleted = 0.4;
+        long seed = 42;
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            switch (kv[0]) {
+                case "courses" -> courses = Integer.parseInt(kv[1]);
+                case "deleted" -> deleted = Double.parseDouble(kv[1]);
+                case "seed" -> seed = Long.parseLong(kv[1]);
+                default -> throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+
+        int redisPort = freePort();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            RedisServer redis = new RedisServer(redisPort);
+            redis.start();
+            try {
+                System.setProperty("DB_URL", postgres.getJdbcUrl("postgres", "postgres"));
+                System.setProperty("DB_USERNAME", "postgres");
+                System.setProperty("DB_PASSWORD", "postgres");
+
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(CourseBackendApplication.class)
+                        .profiles("load")
+                        .run("--server.port=0",
+                                "--spring.data.redis.port=" + redisPort,
+                                "--perf.jwt.secret=" + UUID.randomUUID() + "-" + UUID.randomUUID(),
+                                "--spring.jpa.show-sql=false",
+                                "--logging.level.root=WARN",
+                                "--logging.level.com.sanketika.course_backend=INFO",
+                                "--logging.level.org.springframework.security=WARN",
+                                "--logging.level.org.springframework.data.redis=WARN",
+                                "--logging.level.io.lettuce.core=WARN",
+                                "--app.archive.initial-delay=PT24H",
+                                "--app.archive.batch-size=500",
+                                "--app.archive.max-batches=100000",
+                                "--app.archive.pause=PT0S");
+                try {
+                    run(context, courses, deleted, seed);
+                } finally {
+                    context.close();
+                }
+            } finally {
+                redis.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static void run(ConfigurableApplicationContext context, int courses, double deleted, long seed) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        CourseArchiveService archive = context.getBean(CourseArchiveService.class);
+
+        CatalogGenerator generator = new CatalogGenerator(seed);
+        context.getBean(CourseImportService.class).importCourses(() -> generator.courses(courses));
+        int softDeleted = jdbc.update("UPDATE courses SET deleted = true, deleted_at = now() - interval '60 days' "
+                + "WHERE abs(hashtext(id::text)) % 10000 < ?", (int) Math.round(deleted * 10000));
+        System.out.printf("%d courses, %d units; %d courses soft-deleted%n", courses,
+                jdbc.queryForObject("SELECT count(*) FROM units", Long.class), softDeleted);
+
+        indexes(jdbc, FULL_INDEXES);
+        jdbc.execute("VACUUM ANALYZE courses");
+        jdbc.execute("VACUUM ANALYZE units");
+        report("1. full indexes, deleted rows in the live tables", jdbc, archive);
+
+        indexes(jdbc, PARTIAL_INDEXES);
+        jdbc.execute("ANALYZE courses");
+        report("2. partial indexes, deleted rows in the live tables", jdbc, archive);
+
+        ArchiveRunDto run = archive.archiveExpired();
+        System.out.printf("%narchived %d courses and %d units in %d batches, %d ms (complete: %s)%n",
+                run.getCourses(), run.getUnits(), run.getBatches(), run.getElapsedMs(), run.isComplete());
+        jdbc.execute("VACUUM ANALYZE courses");
+        jdbc.execute("VACUUM ANALYZE units");
+        report("3. archived, after VACUUM", jdbc, archive);
+
+        jdbc.execute("VACUUM FULL ANALYZE courses");
+        jdbc.execute("VACUUM FULL ANALYZE units");
+        report("4. archived, after VACUUM FULL", jdbc, archive);
+
+        UUID restored = jdbc.queryForObject("SELECT id FROM courses_archive LIMIT 1", UUID.class);
+        long start = System.nanoTime();
+        archive.restore(restored);
+        System.out.printf("%nrestored course %s with %d units in %d ms%n", restored,
+                jdbc.queryForObject("SELECT count(*) FROM units WHERE course_id = ?", Long.class, restored),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static void indexes(JdbcTemplate jdbc, String[] create) {
+        for (String sql : DROP_LIST_INDEXES) jdbc.execute(sql);
+        for (String sql : create) jdbc.execute(sql);
+    }
+
+    private static void report(String title, JdbcTemplate jdbc, CourseArchiveService archive) {
+        System.out.printf("%n== %s%n", title);
+        ArchiveStatsDto stats = archive.stats();
+        for (ArchiveStatsDto.TableStats table : stats.getTables()) {
+            System.out.printf("  %-16s %8d rows  table %8.1f MB  indexes %7.1f MB%n", table.getTable(),
+                    table.getLiveRows(), mb(table.getTableBytes()), mb(table.getIndexBytes()));
+            if (table.getTable().equals("courses")) {
+                table.getIndexes().forEach((name, bytes) ->
+                        System.out.printf("      %-40s %7.2f MB%n", name, mb(bytes)));
+            }
+        }
+        for (String[] query : QUERIES) {
+            for (int i = 0; i < 20; i++) jdbc.queryForList(query[1]);
+            int runs = 200;
+            long start = System.nanoTime();
+            for (int i = 0; i < runs; i++) jdbc.queryForList(query[1]);
+            List<String> plan = jdbc.queryForList("EXPLAIN (COSTS OFF) " + query[1], String.class);
+            System.out.printf("  %-28s %7.3f ms   %s%n", query[0], (System.nanoTime() - start) / 1e6 / runs,
+                    plan.stream().filter(line -> line.contains("Scan")).map(String::trim).findFirst().orElse(""));
+        }
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.cache.CompactCacheSerializer;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing and reading a cached CourseDto with the Redis value serializers:
+ * Java serialization (the previous format), compact without compression and
+ * compact with the default LZ4 threshold. The encoded size of each is printed
+ * at setup.
+ *
+ * Every unit gets its own content (the fixture text with its words shuffled),
+ * as rows read from the database do; Java serialization would otherwise write
+ * the one shared fixture String once and back-references for the rest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializerBenchmark {
+
+    @Param({"jdk", "compact", "compact-lz4"})
+    public String format;
+
+    @Param({"0", "10", "200"})
+    public int units;
+
+    private RedisSerializer<Object> serializer;
+    private CourseDto course;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (format) {
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            case "compact" -> new CompactCacheSerializer(0);
+            case "compact-lz4" -> new CompactCacheSerializer(1024);
+            default -> throw new IllegalArgumentException(format);
+        };
+        course = PerfFixtures.courseDto(units);
+        Random random = new Random(units);
+        for (UnitDto unit : course.getUnits()) {
+            List<String> words = new ArrayList<>(List.of(unit.getContent().split(" ")));
+            Collections.shuffle(words, random);
+            unit.setContent(String.join(" ", words));
+        }
+        encoded = serializer.serialize(course);
+        System.out.printf("%n%s, %d units: %d bytes per entry%n", format, units, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(course);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,200 @@
+package com.sanketika.course_backend.perf;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.enums.Board;
+import com.sanketika.course_backend.enums.Grade;
+import com.sanketika.course_backend.enums.Medium;
+import com.sanketika.course_backend.enums.Subject;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic synthetic catalog drawn from the Board / Medium / Grade /
+ * Subject enums.
+ *
+ * Distributions are skewed the way a real catalog is: most courses are CBSE or
+ * State board in English, cover two to four adjacent grades and one or two
+ * subjects (the first subjects of the enum far more often than the tail), and
+ * have a handful of units with a long tail up to 200. About one in ten is a
+ * draft. The same seed always yields the same catalog.
+ *
+ * Usage: CatalogGenerator &lt;courses&gt; &lt;out.ndjson&gt; [seed]
+ * The output can be posted as-is to /api/courses/bulk.
+ */
+public class CatalogGenerator {
+
+    private static final double[] BOARD_WEIGHTS = {0.35, 0.50, 0.15};          // STATE, CBSE, ICSE
+    private static final double[] MEDIUM_WEIGHTS = {0.55, 0.20, 0.15, 0.05, 0.05}; // ENGLISH, HINDI, KANNADA, TELUGU, TAMIL
+
+    private static final String[] TOPICS = {
+            "Foundations", "Essentials", "Advanced Topics", "Problem Solving", "Practice Workbook",
+            "Exam Preparation", "Concepts and Applications", "Revision Course", "Masterclass", "Projects"
+    };
+
+    private static final String PARAGRAPH =
+            "This unit introduces the key ideas step by step, with worked examples after every section, "
+            + "a short summary of definitions and formulas, and a practice set that mixes recall questions "
+            + "with longer application problems.";
+
+    private final Random random;
+
+    public CatalogGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CatalogGenerator <courses> <out.ndjson> [seed]");
+            System.exit(1);
+        }
+        int count = Integer.parseInt(args[0]);
+        Path out = Path.of(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+
+        long start = System.currentTimeMillis();
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            new CatalogGenerator(seed).writeNdjson(count, writer, new ObjectMapper());
+        }
+        System.out.println("Wrote " + count + " courses to " + out + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    public void writeNdjson(int count, Writer writer, ObjectMapper objectMapper) throws IOException {
+        ObjectWriter courseWriter = objectMapper.writerFor(CourseDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        Iterator<CourseDto> courses = courses(count);
+        while (courses.hasNext()) {
+            courseWriter.writeValue(writer, courses.next());
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Lazily generated courses, so large catalogs never sit in memory.
+     */
+    public Iterator<CourseDto> courses(int count) {
+        return new Iterator<>() {
+            private int produced = 0;
+
+            @Override
+            public boolean hasNext() {
+                return produced < count;
+            }
+
+            @Override
+            public CourseDto next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return course(produced++);
+            }
+        };
+    }
+
+    public CourseDto course(int n) {
+        Board board = Board.values()[pick(BOARD_WEIGHTS)];
+        List<String> subjects = subjects();
+
+        CourseDto dto = new CourseDto();
+        dto.setName(subjects.get(0) + " " + TOPICS[random.nextInt(TOPICS.length)] + " #" + n);
+        dto.setDescription("A " + board.getDisplayName() + " course on " + String.join(" and ", subjects)
+                + " covering the full syllabus with worked examples and practice sets.");
+        dto.setBoard(board.getDisplayName());
+        dto.setMedium(mediums());
+        dto.setGrade(grades());
+        dto.setSubject(subjects);
+        dto.setStatus(random.nextDouble() < 0.9 ? "live" : "draft");
+        dto.setUnits(units(subjects.get(0)));
+        return dto;
+    }
+
+    public List<String> mediums() {
+        Set<String> mediums = new LinkedHashSet<>();
+        mediums.add(Medium.values()[pick(MEDIUM_WEIGHTS)].getDisplayName());
+        if (random.nextDouble() < 0.25) {
+            mediums.add(Medium.ENGLISH.getDisplayName());
+        }
+        return new ArrayList<>(mediums);
+    }
+
+    public List<String> grades() {
+        Grade[] all = Grade.values();
+        int span = 2 + random.nextInt(3);
+        int first = random.nextInt(all.length - span + 1);
+        List<String> grades = new ArrayList<>(span);
+        for (int i = first; i < first + span; i++) {
+            grades.add(all[i].getDisplayName());
+        }
+        return grades;
+    }
+
+    public List<String> subjects() {
+        Set<String> subjects = new LinkedHashSet<>();
+        subjects.add(zipfSubject());
+        if (random.nextDouble() < 0.3) {
+            subjects.add(zipfSubject());
+        }
+        return new ArrayList<>(subjects);
+    }
+
+    private List<UnitDto> units(String subject) {
+        int count;
+        double roll = random.nextDouble();
+        if (roll < 0.05) {
+            count = 0;
+        } else if (roll < 0.75) {
+            count = 1 + random.nextInt(10);
+        } else if (roll < 0.95) {
+            count = 10 + random.nextInt(40);
+        } else {
+            count = 50 + random.nextInt(151);
+        }
+
+        List<UnitDto> units = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            units.add(new UnitDto(subject + " - Unit " + (i + 1), PARAGRAPH));
+        }
+        return units;
+    }
+
+    // Zipf-like: subject k is picked with weight 1/(k+1).
+    private String zipfSubject() {
+        Subject[] all = Subject.values();
+        double total = 0;
+        for (int k = 0; k < all.length; k++) {
+            total += 1.0 / (k + 1);
+        }
+        double roll = random.nextDouble() * total;
+        for (int k = 0; k < all.length; k++) {
+            roll -= 1.0 / (k + 1);
+            if (roll <= 0) {
+                return all[k].getDisplayName();
+            }
+        }
+        return all[all.length - 1].getDisplayName();
+    }
+
+    private int pick(double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll <= 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+}
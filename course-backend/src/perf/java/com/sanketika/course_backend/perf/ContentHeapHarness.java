@@ -0,0 +1,170 @@
+package com.sanketika.course_backend.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.cache.UnitContentJsonModule;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Heap and GC pauses of a node holding large unit bodies in its course cache:
+ * mode=heap keeps the content Strings in the cached DTOs (the behaviour
+ * without UnitContentStore), mode=offheap moves them into the store. After the
+ * catalog is loaded and a full GC, the live heap and direct memory are
+ * printed; then for the given time the cached courses are serialized as
+ * responses while a few courses per second are replaced with a new version,
+ * as updates and cache reloads do, and every GC pause is recorded.
+ *
+ * Usage: ContentHeapHarness mode=heap|offheap [units=10000] [size=51200] [seconds=60] [refresh=2]
+ * Run both modes with the same heap, e.g.
+ * -Dperf.jvmArgs="-Xmx1536m -XX:MaxDirectMemorySize=1g".
+ */
+public class ContentHeapHarness {
+
+    private static final int UNITS_PER_COURSE = 100;
+    private static final String[] WORDS = ("lorem ipsum dolor sit amet consectetur adipiscing elit sed do "
+            + "eiusmod tempor incididunt ut labore et dolore magna aliqua enim ad minim veniam").split(" ");
+
+    public static void main(String[] args) throws Exception {
+        String mode = "offheap";
+        int units = 10_000;
+        int size = 50 * 1024;
+        int seconds = 60;
+        int refresh = 2;
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            switch (kv[0]) {
+                case "mode" -> mode = kv[1];
+                case "units" -> units = Integer.parseInt(kv[1]);
+                case "size" -> size = Integer.parseInt(kv[1]);
+                case "seconds" -> seconds = Integer.parseInt(kv[1]);
+                case "refresh" -> refresh = Integer.parseInt(kv[1]);
+                default -> throw new IllegalArgumentException("Unknown argument " + arg);
+            }
+        }
+        boolean offheap = mode.equals("offheap");
+
+        // Large enough that nothing is evicted: there is no database to reload from.
+        UnitContentStore store = new UnitContentStore(null, offheap, DataSize.ofGigabytes(8), 4096);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new UnitContentJsonModule(store))
+                .build();
+
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>();
+        Map<UUID, CourseDto> cache = new ConcurrentHashMap<>();
+        for (int c = 0; c < units / UNITS_PER_COURSE; c++) {
+            CourseDto course = course(UUID.randomUUID(), 0, size, random);
+            store.offload(course);
+            cache.put(course.getId(), course);
+            ids.add(course.getId());
+        }
+
+        System.gc();
+        System.gc();
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.printf("mode=%s units=%d size=%d bytes%n", mode, units, size);
+        System.out.printf("after load + full GC: heap used %d MB, direct %d MB%n", heap >> 20, direct() >> 20);
+
+        List<Long> pauses = Collections.synchronizedList(new ArrayList<>());
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    GarbageCollectionNotificationInfo info =
+                            GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                    if (!info.getGcAction().contains("concurrent") && !info.getGcName().contains("Concurrent")) {
+                        pauses.add(info.getGcInfo().getDuration());
+                    }
+                }
+            }, null, null);
+        }
+
+        AtomicLong responses = new AtomicLong();
+        long end = System.nanoTime() + seconds * 1_000_000_000L;
+        long nextRefresh = System.nanoTime();
+        long version = 1;
+        while (System.nanoTime() < end) {
+            if (refresh > 0 && System.nanoTime() >= nextRefresh) {
+                for (int i = 0; i < refresh; i++) {
+                    CourseDto course = course(ids.get(random.nextInt(ids.size())), version++, size, random);
+                    store.offload(course);
+                    cache.put(course.getId(), course);
+                }
+                nextRefresh += 1_000_000_000L;
+            }
+            objectMapper.writeValue(OutputStream.nullOutputStream(), cache.get(ids.get(random.nextInt(ids.size()))));
+            responses.incrementAndGet();
+        }
+
+        System.gc();
+        heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        List<Long> sorted;
+        synchronized (pauses) {
+            sorted = new ArrayList<>(pauses);
+        }
+        Collections.sort(sorted);
+        long total = sorted.stream().mapToLong(Long::longValue).sum();
+        System.out.printf("%d s: %d responses (%.0f/s), %d GC pauses, total %d ms, p50 %d ms, p99 %d ms, max %d ms%n",
+                seconds, responses.get(), responses.get() / (double) seconds, sorted.size(), total,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted.isEmpty() ? 0 : sorted.get(sorted.size() - 1));
+        System.out.printf("after run + full GC: heap used %d MB, direct %d MB%n", heap >> 20, direct() >> 20);
+        // Keep the cached courses and the store alive through the last GC.
+        Reference.reachabilityFence(cache);
+        Reference.reachabilityFence(store);
+        System.exit(0);
+    }
+
+    private static CourseDto course(UUID id, long version, int size, Random random) {
+        CourseDto course = new CourseDto();
+        course.setId(id);
+        course.setName("Course " + id);
+        course.setVersion(version);
+        List<UnitDto> units = new ArrayList<>(UNITS_PER_COURSE);
+        for (int u = 0; u < UNITS_PER_COURSE; u++) {
+            UnitDto unit = new UnitDto(new UUID(id.getMostSignificantBits(), u), "Unit " + u, content(size, random), id, version);
+            units.add(unit);
+        }
+        course.setUnits(units);
+        return course;
+    }
+
+    private static String content(int size, Random random) {
+        StringBuilder text = new StringBuilder(size + 16);
+        while (text.length() < size) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        text.setLength(size);
+        return text.toString();
+    }
+
+    private static long direct() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) return 0;
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1));
+    }
+}
@@ -0,0 +1,63 @@
+package com.sanketika.course_backend.perf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.utils.RawJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The body of a /api/courses/get/{id} cache hit: converting the cached DTO
+ * and serializing the envelope, against writing the cached JSON bytes into
+ * the envelope as a raw value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseResponseBenchmark {
+
+    @Param({"0", "10", "200"})
+    public int units;
+
+    // Same defaults Spring Boot applies to the MVC ObjectMapper.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private CourseDto course;
+    private byte[] courseJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        course = PerfFixtures.courseDto(units);
+        courseJson = objectMapper.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] convertAndSerialize() throws JsonProcessingException {
+        CourseDto converted = objectMapper.convertValue(course, CourseDto.class);
+        return objectMapper.writeValueAsBytes(
+                ResponseMapper.success("api.courses.get", "Course fetched successfully", converted));
+    }
+
+    @Benchmark
+    public byte[] rawBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                ResponseMapper.success("api.courses.get", "Course fetched successfully", new RawJson(courseJson)));
+    }
+}
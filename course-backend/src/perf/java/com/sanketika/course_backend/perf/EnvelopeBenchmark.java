@@ -0,0 +1,66 @@
+package com.sanketika.course_backend.perf;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.utils.ApiEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and serializing the response envelope of a /api/courses/list page
+ * (10 courses), the way the MVC message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvelopeBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"0", "10", "200"})
+    public int units;
+
+    // Same defaults Spring Boot applies to the MVC ObjectMapper.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Page<CourseDto> page;
+    private ApiEnvelope<Page<CourseDto>> envelope;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(PerfFixtures.page(PAGE_SIZE, units),
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000);
+        envelope = ResponseMapper.success("api.courses.list", "Courses fetched successfully", page);
+    }
+
+    @Benchmark
+    public ApiEnvelope<Page<CourseDto>> success() {
+        return ResponseMapper.success("api.courses.list", "Courses fetched successfully", page);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(envelope);
+    }
+}
@@ -0,0 +1,137 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.CourseBackendApplication;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.services.CourseImportService;
+import com.sanketika.course_backend.services.CourseService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * POST /api/courses/list at catalog scale: the facet index path
+ * (path=index) against the Specification path it replaced (path=sql, the
+ * index disabled), through CourseService against an embedded Postgres and
+ * a local Redis. Courses are loaded without units; the filters, counts and
+ * page fetch are what is measured.
+ *
+ * Loading 1M courses takes a few minutes per trial, e.g.
+ * mvn -Pperf test-compile exec:exec -Djmh.args="FacetListBenchmark -p courses=100000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FacetListBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int courses;
+
+    @Param({"index", "sql"})
+    public String path;
+
+    private EmbeddedPostgres postgres;
+    private RedisServer redis;
+    private ConfigurableApplicationContext context;
+    private CourseService courseService;
+
+    private final CourseListRequest firstPage = request(0, List.of(), List.of(), List.of());
+    // Narrow: one board, a minority medium and one grade.
+    private final CourseListRequest filtered = request(0, List.of("CBSE"), List.of("Hindi"), List.of("8"));
+    // Offset paging 500 pages in, over a broad filter.
+    private final CourseListRequest deepPage = request(500, List.of("State"), List.of("English"), List.of());
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        int redisPort = LoadHarness.freePort();
+        postgres = EmbeddedPostgres.builder().start();
+        redis = new RedisServer(redisPort);
+        redis.start();
+        System.setProperty("DB_URL", postgres.getJdbcUrl("postgres", "postgres"));
+        System.setProperty("DB_USERNAME", "postgres");
+        System.setProperty("DB_PASSWORD", "postgres");
+
+        String secret = UUID.randomUUID() + "-" + UUID.randomUUID();
+        context = new SpringApplicationBuilder(CourseBackendApplication.class)
+                .profiles("load")
+                .run(LoadHarness.applicationArgs(redisPort, secret,
+                        List.of("--app.facet-index.enabled=" + path.equals("index"))));
+
+        CatalogGenerator generator = new CatalogGenerator(42);
+        context.getBean(CourseImportService.class).importCourses(() -> withoutUnits(generator.courses(courses)));
+        context.getBean(JdbcTemplate.class).execute("VACUUM ANALYZE courses");
+        courseService = context.getBean(CourseService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+        redis.stop();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Page<CourseDto> unfilteredFirstPage() {
+        return courseService.listCourses(firstPage);
+    }
+
+    @Benchmark
+    public Page<CourseDto> filteredFirstPage() {
+        return courseService.listCourses(filtered);
+    }
+
+    @Benchmark
+    public Page<CourseDto> deepPage() {
+        return courseService.listCourses(deepPage);
+    }
+
+    private static CourseListRequest request(int page, List<String> boards, List<String> mediums, List<String> grades) {
+        CourseListRequest request = new CourseListRequest();
+        request.setPage(page);
+        request.setSize(20);
+        request.setBoards(boards);
+        request.setMediums(mediums);
+        request.setGrades(grades);
+        return request;
+    }
+
+    private static Iterator<CourseDto> withoutUnits(Iterator<CourseDto> courses) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return courses.hasNext();
+            }
+
+            @Override
+            public CourseDto next() {
+                CourseDto course = courses.next();
+                course.setUnits(List.of());
+                return course;
+            }
+        };
+    }
+}
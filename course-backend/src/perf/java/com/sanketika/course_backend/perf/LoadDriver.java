@@ -0,0 +1,360 @@
+package com.sanketika.course_backend.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FilterRequestDto;
+import com.sanketika.course_backend.enums.Board;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Closed-loop load driver: a fixed number of workers each send requests back
+ * to back for a warm-up period and then a measured period, picking every
+ * request from a weighted mix of
+ *
+ *   list    POST /api/courses/list with random facet filters and pages
+ *   get     GET  /api/courses/get/{id} for ids seen in list responses
+ *   filters the /api/filters cascade: boards, mediums, grades, subjects
+ *   write   admin POST /api/courses/add and PUT /api/courses/update/{id}
+ *
+ * and reports throughput plus p50/p95/p99/max latency per endpoint. With
+ * api=reactive the reads go to the /api/reactive mirror of the same endpoints
+ * (built with -Preactive); writes always use the blocking API.
+ *
+ * Usage: LoadDriver key=value ...
+ *   baseUrl      default http://localhost:9099
+ *   userToken    bearer token for reads (required)
+ *   adminToken   bearer token for writes (defaults to userToken)
+ *   threads      default 16
+ *   warmup       seconds, default 10
+ *   duration     seconds, default 60
+ *   mix          list:get:filters:write weights, default 40:30:20:10
+ *   pageSize     rows per list page, default 10
+ *   api          blocking (default) or reactive
+ *   seed         default 7
+ */
+public class LoadDriver {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final Options options;
+    private final HttpClient client;
+    private final Map<String, LatencyRecorder> recorders = new TreeMap<>();
+    private final AtomicReferenceArray<UUID> knownIds = new AtomicReferenceArray<>(10_000);
+    private final AtomicInteger knownIdCount = new AtomicInteger();
+    private volatile boolean measuring = false;
+
+    public LoadDriver(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        for (String endpoint : List.of("list", "get", "filters.boards", "filters.mediums",
+                "filters.grades", "filters.subjects", "write.add", "write.update")) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (options.userToken == null) {
+            System.err.println("userToken=<bearer token> is required");
+            System.exit(1);
+        }
+        System.out.println(new LoadDriver(options).run());
+    }
+
+    /**
+     * Runs the warm-up and measured periods and returns the report.
+     */
+    public String run() throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads);
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long deadline = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+
+        for (int t = 0; t < options.threads; t++) {
+            long seed = options.seed * 31 + t;
+            workers.submit(() -> work(new CatalogGenerator(seed), new Random(seed), deadline));
+        }
+
+        long sleep = TimeUnit.NANOSECONDS.toMillis(measureFrom - System.nanoTime());
+        if (sleep > 0) Thread.sleep(sleep);
+        recorders.values().forEach(LatencyRecorder::reset);
+        measuring = true;
+
+        workers.shutdown();
+        workers.awaitTermination(options.durationSeconds + 60, TimeUnit.SECONDS);
+        measuring = false;
+        return report(options.durationSeconds);
+    }
+
+    private void work(CatalogGenerator generator, Random random, long deadline) {
+        while (System.nanoTime() < deadline) {
+            int roll = random.nextInt(options.totalWeight());
+            try {
+                if ((roll -= options.mix[0]) < 0) {
+                    list(generator, random);
+                } else if ((roll -= options.mix[1]) < 0) {
+                    get(random);
+                } else if ((roll -= options.mix[2]) < 0) {
+                    filters(generator, random);
+                } else {
+                    write(generator, random);
+                }
+            } catch (IOException ex) {
+                // Counted as an error by the recorder; keep the worker going.
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void list(CatalogGenerator generator, Random random) throws IOException, InterruptedException {
+        CourseListRequest request = new CourseListRequest();
+        request.setPage(random.nextDouble() < 0.7 ? 0 : random.nextInt(20));
+        request.setSize(options.pageSize);
+        if (random.nextDouble() < 0.6) {
+            request.setBoards(List.of(Board.values()[random.nextInt(Board.values().length)].getDisplayName()));
+        }
+        if (random.nextDouble() < 0.4) {
+            request.setMediums(generator.mediums());
+        }
+        if (random.nextDouble() < 0.3) {
+            request.setGrades(generator.grades());
+        }
+        if (random.nextDouble() < 0.2) {
+            request.setSubjects(generator.subjects());
+        }
+        HttpResponse<String> response = send("list", post(options.readPrefix() + "/courses/list", request, options.userToken));
+        if (response != null && response.statusCode() == 200) {
+            rememberIds(response.body());
+        }
+    }
+
+    private void get(Random random) throws IOException, InterruptedException {
+        UUID id = randomKnownId(random);
+        if (id == null) return;
+        send("get", request(options.readPrefix() + "/courses/get/" + id, options.userToken).GET().build());
+    }
+
+    private void filters(CatalogGenerator generator, Random random) throws IOException, InterruptedException {
+        FilterRequestDto filter = new FilterRequestDto();
+        filter.setBoard(Board.values()[random.nextInt(Board.values().length)].getDisplayName());
+        filter.setMedium(generator.mediums());
+        filter.setGrade(generator.grades());
+        switch (random.nextInt(4)) {
+            case 0 -> send("filters.boards", request(options.readPrefix() + "/filters/boards", options.userToken).GET().build());
+            case 1 -> send("filters.mediums", post(options.readPrefix() + "/filters/mediums", filter, options.userToken));
+            case 2 -> send("filters.grades", post(options.readPrefix() + "/filters/grades", filter, options.userToken));
+            default -> send("filters.subjects", post(options.readPrefix() + "/filters/subjects", filter, options.userToken));
+        }
+    }
+
+    private void write(CatalogGenerator generator, Random random) throws IOException, InterruptedException {
+        CourseDto course = generator.course(random.nextInt(1_000_000));
+        UUID id = randomKnownId(random);
+        if (id == null || random.nextBoolean()) {
+            send("write.add", post("/api/courses/add", course, options.adminToken));
+        } else {
+            course.setUnits(null);
+            send("write.update", request("/api/courses/update/" + id, options.adminToken)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(course)))
+                    .build());
+        }
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            return response;
+        } finally {
+            if (measuring) {
+                boolean ok = response != null && response.statusCode() < 400;
+                recorders.get(endpoint).record(System.nanoTime() - start, ok);
+            }
+        }
+    }
+
+    private HttpRequest post(String path, Object body, String token) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private void rememberIds(String body) throws IOException {
+        JsonNode content = JSON.readTree(body).path("result").path("data").path("content");
+        for (JsonNode course : content) {
+            if (course.hasNonNull("id")) {
+                int slot = knownIdCount.getAndIncrement() % knownIds.length();
+                knownIds.set(slot, UUID.fromString(course.get("id").asText()));
+            }
+        }
+    }
+
+    private UUID randomKnownId(Random random) {
+        int known = Math.min(knownIdCount.get(), knownIds.length());
+        return known == 0 ? null : knownIds.get(random.nextInt(known));
+    }
+
+    private String report(long seconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        long totalRequests = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder.Snapshot s = entry.getValue().snapshot();
+            if (s.count() == 0) continue;
+            totalRequests += s.count();
+            out.append(String.format(Locale.ROOT, "%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), s.count(), s.errors(), s.count() / (double) seconds,
+                    s.percentileMs(50), s.percentileMs(95), s.percentileMs(99), s.percentileMs(100)));
+        }
+        out.append(String.format(Locale.ROOT, "%-18s %9d %7s %9.1f%n", "total", totalRequests, "",
+                totalRequests / (double) seconds));
+        return out.toString();
+    }
+
+    /**
+     * Every latency sample of one endpoint; sorted once when reporting.
+     */
+    static final class LatencyRecorder {
+        private long[] samples = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = nanos;
+            if (!ok) errors++;
+        }
+
+        synchronized void reset() {
+            count = 0;
+            errors = 0;
+        }
+
+        synchronized Snapshot snapshot() {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return new Snapshot(sorted, errors);
+        }
+
+        record Snapshot(long[] sorted, long errors) {
+            long count() {
+                return sorted.length;
+            }
+
+            double percentileMs(double p) {
+                if (sorted.length == 0) return 0;
+                int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+                return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+            }
+        }
+    }
+
+    public static final class Options {
+        String baseUrl = "http://localhost:9099";
+        String userToken;
+        String adminToken;
+        int threads = 16;
+        long warmupSeconds = 10;
+        long durationSeconds = 60;
+        int[] mix = {40, 30, 20, 10};
+        int pageSize = 10;
+        long seed = 7;
+        String api = "blocking";
+
+        int totalWeight() {
+            return mix[0] + mix[1] + mix[2] + mix[3];
+        }
+
+        String readPrefix() {
+            return "reactive".equals(api) ? "/api/reactive" : "/api";
+        }
+
+        public static Options parse(String... args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (eq > 0) {
+                    values.put(arg.substring(0, eq), arg.substring(eq + 1));
+                }
+            }
+            Options options = new Options();
+            options.baseUrl = values.getOrDefault("baseUrl", options.baseUrl);
+            options.userToken = values.get("userToken");
+            options.adminToken = values.getOrDefault("adminToken", options.userToken);
+            options.threads = Integer.parseInt(values.getOrDefault("threads", String.valueOf(options.threads)));
+            options.warmupSeconds = Long.parseLong(values.getOrDefault("warmup", String.valueOf(options.warmupSeconds)));
+            options.durationSeconds = Long.parseLong(values.getOrDefault("duration", String.valueOf(options.durationSeconds)));
+            options.seed = Long.parseLong(values.getOrDefault("seed", String.valueOf(options.seed)));
+            options.pageSize = Integer.parseInt(values.getOrDefault("pageSize", String.valueOf(options.pageSize)));
+            options.api = values.getOrDefault("api", options.api);
+            if (!options.api.equals("blocking") && !options.api.equals("reactive")) {
+                throw new IllegalArgumentException("api must be blocking or reactive");
+            }
+            if (values.containsKey("mix")) {
+                List<Integer> weights = new ArrayList<>();
+                for (String part : values.get("mix").split(":")) {
+                    weights.add(Integer.parseInt(part.trim()));
+                }
+                if (weights.size() != 4) {
+                    throw new IllegalArgumentException("mix needs four weights, list:get:filters:write");
+                }
+                options.mix = weights.stream().mapToInt(Integer::intValue).toArray();
+            }
+            return options;
+        }
+
+        public Options withBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+            return this;
+        }
+
+        public Options withThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public Options withTokens(String userToken, String adminToken) {
+            this.userToken = userToken;
+            this.adminToken = adminToken;
+            return this;
+        }
+    }
+}
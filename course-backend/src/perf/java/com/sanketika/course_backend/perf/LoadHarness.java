@@ -0,0 +1,150 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.CourseBackendApplication;
+import com.sanketika.course_backend.dto.BulkImportResultDto;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.services.CourseImportService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Self-contained load run: starts an embedded Postgres and a local Redis
+ * server, boots the application against them under the "load" profile,
+ * loads a synthetic catalog through the bulk import path and then runs
+ * {@link LoadDriver} against it.
+ *
+ * Usage: LoadHarness courses=10000 [profiles=virtual] [threads=200,1000,5000] [any LoadDriver option]
+ * baseUrl and the tokens are filled in by the harness. profiles adds Spring
+ * profiles to "load" (virtual = virtual-thread request handling, Java 21+);
+ * a comma-separated threads list runs the driver once per concurrency level
+ * against the same application, so a platform run and a virtual run of the
+ * same command line compare directly. Arguments starting with "--" go to the
+ * application, e.g. --app.facet-index.enabled=false.
+ */
+public class LoadHarness {
+
+    public static void main(String[] args) throws Exception {
+        int courses = 10_000;
+        long seed = 42;
+        List<String> profiles = new ArrayList<>(List.of("load"));
+        List<Integer> levels = new ArrayList<>();
+        List<String> driverArgs = new ArrayList<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("courses=")) {
+                courses = Integer.parseInt(arg.substring("courses=".length()));
+            } else if (arg.startsWith("catalogSeed=")) {
+                seed = Long.parseLong(arg.substring("catalogSeed=".length()));
+            } else if (arg.startsWith("profiles=")) {
+                profiles.addAll(List.of(arg.substring("profiles=".length()).split(",")));
+            } else if (arg.startsWith("--")) {
+                appArgs.add(arg);
+            } else if (arg.startsWith("threads=")) {
+                for (String level : arg.substring("threads=".length()).split(",")) {
+                    levels.add(Integer.parseInt(level.trim()));
+                }
+            } else {
+                driverArgs.add(arg);
+            }
+        }
+        LoadDriver.Options options = LoadDriver.Options.parse(driverArgs.toArray(new String[0]));
+        if (levels.isEmpty()) {
+            levels.add(options.threads);
+        }
+
+        String secret = UUID.randomUUID() + "-" + UUID.randomUUID();
+        int redisPort = freePort();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            RedisServer redis = new RedisServer(redisPort);
+            redis.start();
+            try {
+                System.setProperty("DB_URL", postgres.getJdbcUrl("postgres", "postgres"));
+                System.setProperty("DB_USERNAME", "postgres");
+                System.setProperty("DB_PASSWORD", "postgres");
+
+                ConfigurableApplicationContext context = new SpringApplicationBuilder(CourseBackendApplication.class)
+                        .profiles(profiles.toArray(new String[0]))
+                        .run(applicationArgs(redisPort, secret, appArgs));
+                try {
+                    AtomicLong units = new AtomicLong();
+                    BulkImportResultDto loaded = load(context, courses, seed, units);
+                    System.out.printf("Loaded %d courses (%d failed) at %.0f rows/s; %d units, %.0f rows/s counting them%n",
+                            loaded.getInserted(), loaded.getFailed(), loaded.getRowsPerSecond(), units.get(),
+                            loaded.getElapsedMs() > 0 ? (loaded.getInserted() + units.get()) * 1000.0 / loaded.getElapsedMs() : 0);
+
+                    String port = context.getEnvironment().getProperty("local.server.port");
+                    options.withBaseUrl("http://localhost:" + port)
+                            .withTokens(LoadTestSecurityConfig.mintToken(secret, "load-user", List.of("user")),
+                                    LoadTestSecurityConfig.mintToken(secret, "load-admin", List.of("admin")));
+                    System.out.printf("Profiles %s, spring.threads.virtual.enabled=%s on Java %d%n", profiles,
+                            context.getEnvironment().getProperty("spring.threads.virtual.enabled", "false"),
+                            Runtime.version().feature());
+                    for (int threads : levels) {
+                        System.out.printf("%n%d concurrent clients%n", threads);
+                        System.out.println(new LoadDriver(options.withThreads(threads)).run());
+                    }
+                } finally {
+                    context.close();
+                }
+            } finally {
+                redis.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static BulkImportResultDto load(ConfigurableApplicationContext context, int courses, long seed, AtomicLong units) {
+        CatalogGenerator generator = new CatalogGenerator(seed);
+        Iterator<CourseDto> catalog = generator.courses(courses);
+        // Counts the units as the import reads them; the import result only counts courses.
+        Iterator<CourseDto> counted = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return catalog.hasNext();
+            }
+
+            @Override
+            public CourseDto next() {
+                CourseDto course = catalog.next();
+                units.addAndGet(course.getUnits() != null ? course.getUnits().size() : 0);
+                return course;
+            }
+        };
+        return context.getBean(CourseImportService.class).importCourses(() -> counted);
+    }
+
+    // Passed as command-line arguments so they win over application.properties.
+    static String[] applicationArgs(int redisPort, String secret, List<String> extra) {
+        List<String> args = new ArrayList<>();
+        args.add("--server.port=0");
+        args.add("--spring.data.redis.host=localhost");
+        args.add("--spring.data.redis.port=" + redisPort);
+        args.add("--perf.jwt.secret=" + secret);
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.com.sanketika.course_backend=INFO");
+        args.add("--logging.level.org.springframework.security=WARN");
+        args.add("--logging.level.org.springframework.security.oauth2=WARN");
+        args.add("--logging.level.org.springframework.data.redis=WARN");
+        args.add("--logging.level.io.lettuce.core=WARN");
+        args.addAll(extra);
+        return args.toArray(new String[0]);
+    }
+
+    static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
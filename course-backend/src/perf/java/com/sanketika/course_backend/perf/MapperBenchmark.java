@@ -0,0 +1,72 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.entity.Unit;
+import com.sanketika.course_backend.mapper.CourseMapper;
+import com.sanketika.course_backend.mapper.UnitMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity ↔ DTO mapping done on every course read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"0", "10", "200"})
+    public int units;
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final UnitMapper unitMapper = new UnitMapper();
+
+    private Course course;
+    private CourseDto courseDto;
+    private Unit unit;
+    private UnitDto unitDto;
+
+    @Setup
+    public void setUp() {
+        course = PerfFixtures.course(units);
+        courseDto = courseMapper.toDto(course);
+        unit = PerfFixtures.course(1).getUnits().get(0);
+        unitDto = unitMapper.toDto(unit);
+    }
+
+    @Benchmark
+    public CourseDto courseToDto() {
+        return courseMapper.toDto(course);
+    }
+
+    @Benchmark
+    public Course courseToEntity() {
+        return courseMapper.toEntity(courseDto);
+    }
+
+    @Benchmark
+    public UnitDto unitToDto() {
+        return unitMapper.toDto(unit);
+    }
+
+    @Benchmark
+    public Unit unitToEntity() {
+        return unitMapper.toEntity(unitDto);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.entity.Unit;
+import com.sanketika.course_backend.mapper.CourseMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Course payloads shaped like the seeded catalog, with a configurable number
+ * of units of a few hundred characters each.
+ */
+public final class PerfFixtures {
+
+    private static final String UNIT_CONTENT =
+            "Learn about motion, forces, and energy in classical mechanics. This unit walks through "
+            + "Newton's laws, work and power, conservation of momentum and simple harmonic motion, "
+            + "with worked examples after every section and a short practice set at the end. "
+            + "Students should be comfortable with basic algebra and vectors before starting.";
+
+    private PerfFixtures() {
+    }
+
+    public static Course course(int units) {
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setName("Physics Fundamentals");
+        course.setDescription("Master the basic principles of physics including mechanics, thermodynamics, and electromagnetism.");
+        course.setBoard("CBSE");
+        course.setMedium(List.of("English", "Hindi"));
+        course.setGrade(List.of("11", "12"));
+        course.setSubject(List.of("Physics"));
+        course.setStatus("live");
+        course.setCreatedAt(LocalDateTime.now());
+        course.setUpdatedAt(course.getCreatedAt());
+        course.setVersion(3);
+
+        List<Unit> list = new ArrayList<>(units);
+        for (int i = 0; i < units; i++) {
+            Unit unit = new Unit();
+            unit.setId(UUID.randomUUID());
+            unit.setTitle("Unit " + (i + 1) + ": Mechanics");
+            unit.setContent(UNIT_CONTENT);
+            unit.setCourse(course);
+            list.add(unit);
+        }
+        course.setUnits(list);
+        return course;
+    }
+
+    public static CourseDto courseDto(int units) {
+        return new CourseMapper().toDto(course(units));
+    }
+
+    public static List<CourseDto> page(int courses, int unitsPerCourse) {
+        List<CourseDto> page = new ArrayList<>(courses);
+        for (int i = 0; i < courses; i++) {
+            page.add(courseDto(unitsPerCourse));
+        }
+        return page;
+    }
+}
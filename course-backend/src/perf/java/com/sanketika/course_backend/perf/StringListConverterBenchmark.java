@@ -0,0 +1,58 @@
+package com.sanketika.course_backend.perf;
+
+import com.sanketika.course_backend.utils.StringListConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON text round trip of the medium / grade / subject lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringListConverterBenchmark {
+
+    // A typical course lists one or two values; a "grades 1-12" course lists twelve.
+    @Param({"1", "3", "12"})
+    public int values;
+
+    private final StringListConverter converter = new StringListConverter();
+
+    private List<String> list;
+    private String json;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(values);
+        for (int i = 1; i <= values; i++) {
+            list.add(String.valueOf(i));
+        }
+        json = converter.convertToDatabaseColumn(list);
+    }
+
+    @Benchmark
+    public String toDatabaseColumn() {
+        return converter.convertToDatabaseColumn(list);
+    }
+
+    @Benchmark
+    public List<String> toEntityAttribute() {
+        return converter.convertToEntityAttribute(json);
+    }
+}
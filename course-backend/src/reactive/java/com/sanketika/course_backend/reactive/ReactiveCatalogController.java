@@ -0,0 +1,93 @@
+package com.sanketika.course_backend.reactive;
+
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FilterRequestDto;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import com.sanketika.course_backend.mapper.ResponseMapper;
+import com.sanketika.course_backend.utils.ApiEnvelope;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking mirror of the catalog read endpoints under /api/reactive, with
+ * the same request and response bodies as their /api counterparts. The
+ * request thread is released while R2DBC and Redis work; the response is
+ * written when the publisher completes.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveCatalogController {
+
+    @Autowired
+    private ReactiveCatalogService catalogService;
+
+    @Autowired
+    private HttpServletRequest request;
+
+    private String autoId() {
+        String path = request.getServletPath();
+        return path.replace("/", ".").substring(1);
+    }
+
+    @GetMapping("/courses/get/{id}")
+    public Mono<ResponseEntity<ApiEnvelope<CourseDto>>> getCourseById(@PathVariable UUID id) {
+        String responseId = autoId();
+        return catalogService.getCourseById(id)
+                .map(course -> ResponseEntity.ok(
+                        ResponseMapper.success(responseId, "Course fetched successfully", course)));
+    }
+
+    @PostMapping("/courses/list")
+    public Mono<ResponseEntity<ApiEnvelope<Page<CourseDto>>>> listCourses(@RequestBody CourseListRequest requestBody) {
+        String responseId = autoId();
+        return catalogService.listCourses(requestBody)
+                .map(page -> ResponseEntity.ok(
+                        ResponseMapper.success(responseId, "Courses fetched successfully", page)));
+    }
+
+    /**
+     * All courses matching a list request as NDJSON, one CourseDto per line,
+     * written as the database produces them and no faster than the client reads.
+     */
+    @PostMapping(value = "/courses/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseDto> streamCourses(@RequestBody CourseListRequest requestBody) {
+        return catalogService.streamCourses(requestBody);
+    }
+
+    @GetMapping("/units/course/get/{courseId}")
+    public Mono<ResponseEntity<ApiEnvelope<List<UnitSummaryDto>>>> getUnitsByCourse(@PathVariable UUID courseId) {
+        return catalogService.getUnitsByCourse(courseId)
+                .map(units -> ResponseEntity.ok(
+                        ResponseMapper.success("api.unit.list", "Units fetched successfully", units)));
+    }
+
+    @GetMapping("/filters/boards")
+    public Mono<ResponseEntity<List<String>>> getBoards() {
+        return catalogService.getBoards().map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/filters/mediums")
+    public Mono<ResponseEntity<List<String>>> getMediumsByBoard(@RequestBody FilterRequestDto requestBody) {
+        return catalogService.getMediums(requestBody).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/filters/grades")
+    public Mono<ResponseEntity<List<String>>> getGrades(@RequestBody FilterRequestDto requestBody) {
+        return catalogService.getGrades(requestBody).map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/filters/subjects")
+    public Mono<ResponseEntity<List<String>>> getSubjects(@RequestBody FilterRequestDto requestBody) {
+        return catalogService.getSubjects(requestBody).map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,209 @@
+package com.sanketika.course_backend.reactive;
+
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.FilterRequestDto;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
+import com.sanketika.course_backend.index.CourseFacetIndex;
+import com.sanketika.course_backend.index.FilterCascadeIndex;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking counterparts of the catalog reads in CourseServiceImpl,
+ * UnitServiceImpl and FilterController, with the same results: the in-memory
+ * indexes answer what they can, the courses cache is consulted before the
+ * database, and anything built from the database goes back into the cache.
+ *
+ * Every method reads the caller's roles when it is called, on the request
+ * thread; the returned publishers never touch the SecurityContext.
+ */
+@Service
+public class ReactiveCatalogService {
+
+    // Courses per unit lookup in streamCourses, and rows per portal fetch.
+    private static final int STREAM_BATCH_SIZE = 200;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final ReactiveCourseRepository repository;
+    private final ReactiveCourseCache cache;
+    private final CourseCache courseCache;
+    private final UnitContentStore unitContentStore;
+    private final CourseFacetIndex courseFacetIndex;
+    private final FilterCascadeIndex filterCascadeIndex;
+
+    public ReactiveCatalogService(ReactiveCourseRepository repository,
+                                  ReactiveCourseCache cache,
+                                  CourseCache courseCache,
+                                  UnitContentStore unitContentStore,
+                                  CourseFacetIndex courseFacetIndex,
+                                  FilterCascadeIndex filterCascadeIndex) {
+        this.repository = repository;
+        this.cache = cache;
+        this.courseCache = courseCache;
+        this.unitContentStore = unitContentStore;
+        this.courseFacetIndex = courseFacetIndex;
+        this.filterCascadeIndex = filterCascadeIndex;
+    }
+
+    public Mono<CourseDto> getCourseById(UUID id) {
+        return cache.get(id)
+                .switchIfEmpty(Mono.defer(() -> repository.findById(id)
+                        .switchIfEmpty(Mono.error(new ResourceNotFoundException("Course not found")))
+                        .flatMap(course -> repository.findUnitsByCourseId(id)
+                                .collectList()
+                                .map(units -> {
+                                    course.setUnits(units);
+                                    unitContentStore.offload(course);
+                                    courseCache.populateAll(List.of(course));
+                                    return course;
+                                }))));
+    }
+
+    public Mono<Page<CourseDto>> listCourses(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+
+        int page = Math.max(0, request.getPage());
+        int size = Math.max(1, request.getSize());
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        if (courseFacetIndex.isReady() && (request.getSearchText() == null || request.getSearchText().isBlank())) {
+            CourseFacetIndex.Result result = courseFacetIndex.findPage(request, allowedStatuses, pageable.getOffset(), size);
+            return repository.findAllById(result.ids())
+                    .collectMap(CourseDto::getId)
+                    .map(byId -> result.ids().stream()
+                            .map(byId::get)
+                            .filter(Objects::nonNull)
+                            .collect(Collectors.toList()))
+                    .flatMap(this::withCachedDtos)
+                    .map(courses -> new PageImpl<>(courses, pageable, result.total()));
+        }
+
+        Mono<List<CourseDto>> content = repository.findPage(request, allowedStatuses, pageable.getOffset(), size)
+                .collectList()
+                .flatMap(this::withCachedDtos);
+        return Mono.zip(content, repository.count(request, allowedStatuses))
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    /**
+     * Every course matching a list request, newest first, with units. Demand
+     * flows back to the database cursor: a batch of courses and its units is
+     * only read once the previous batch has been written out.
+     */
+    public Flux<CourseDto> streamCourses(CourseListRequest request) {
+        List<String> allowedStatuses = allowedStatuses();
+        return repository.streamAll(request, allowedStatuses, STREAM_FETCH_SIZE)
+                .buffer(STREAM_BATCH_SIZE)
+                .concatMap(batch -> withUnits(batch).flatMapIterable(Function.identity()), 1);
+    }
+
+    public Mono<List<UnitSummaryDto>> getUnitsByCourse(UUID courseId) {
+        return repository.findUnitSummariesByCourseId(courseId).collectList();
+    }
+
+    // The cascade answers once it is built, as in FilterController.
+
+    public Mono<List<String>> getBoards() {
+        if (filterCascadeIndex.isReady()) {
+            return Mono.just(filterCascadeIndex.boards());
+        }
+        return repository.findDistinctBoards().collectList();
+    }
+
+    public Mono<List<String>> getMediums(FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return Mono.just(filterCascadeIndex.mediums(request.getBoard()));
+        }
+        return repository.findDistinctMediumByBoard(request.getBoard()).collectList();
+    }
+
+    public Mono<List<String>> getGrades(FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return Mono.just(filterCascadeIndex.grades(request.getBoard(), request.getMedium()));
+        }
+        return repository.findDistinctGradeByBoardAndMediums(request.getBoard(), request.getMedium()).collectList();
+    }
+
+    public Mono<List<String>> getSubjects(FilterRequestDto request) {
+        if (filterCascadeIndex.isReady()) {
+            return Mono.just(filterCascadeIndex.subjects(request.getBoard(), request.getMedium(), request.getGrade()));
+        }
+        return repository.findDistinctSubjectsByBoardMediumsAndGrades(
+                request.getBoard(), request.getMedium(), request.getGrade()).collectList();
+    }
+
+    /**
+     * Swaps in cached DTOs that are at least as new as the row, and loads
+     * units for the rest in one query, as CourseServiceImpl.toCachedDtos.
+     */
+    private Mono<List<CourseDto>> withCachedDtos(List<CourseDto> rows) {
+        if (rows.isEmpty()) return Mono.just(rows);
+        return cache.getAll(rows.stream().map(CourseDto::getId).collect(Collectors.toList()))
+                .flatMap(cachedById -> {
+                    List<CourseDto> misses = rows.stream()
+                            .filter(row -> !isFresh(cachedById.get(row.getId()), row))
+                            .collect(Collectors.toList());
+                    return withUnits(misses).map(loaded -> {
+                        if (!loaded.isEmpty()) {
+                            loaded.forEach(unitContentStore::offload);
+                            courseCache.populateAll(loaded);
+                        }
+                        return rows.stream()
+                                .map(row -> isFresh(cachedById.get(row.getId()), row) ? cachedById.get(row.getId()) : row)
+                                .collect(Collectors.toList());
+                    });
+                });
+    }
+
+    private Mono<List<CourseDto>> withUnits(List<CourseDto> courses) {
+        if (courses.isEmpty()) return Mono.just(courses);
+        return repository.findUnitsByCourseIdIn(courses.stream().map(CourseDto::getId).collect(Collectors.toList()))
+                .collect(Collectors.groupingBy(UnitDto::getCourseId))
+                .map(unitsByCourse -> {
+                    for (CourseDto course : courses) {
+                        course.setUnits(new ArrayList<>(unitsByCourse.getOrDefault(course.getId(), List.of())));
+                    }
+                    return courses;
+                });
+    }
+
+    private static boolean isFresh(CourseDto cached, CourseDto row) {
+        return cached != null && cached.getVersion() != null && row.getVersion() != null
+                && cached.getVersion() >= row.getVersion();
+    }
+
+    private static List<String> allowedStatuses() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean isAdmin = authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(a -> a.equals("ROLE_ADMIN"));
+
+        List<String> allowedStatuses = new ArrayList<>();
+        allowedStatuses.add("live");
+        if (isAdmin) {
+            allowedStatuses.add("draft");
+        }
+        return allowedStatuses;
+    }
+}
@@ -0,0 +1,100 @@
+package com.sanketika.course_backend.reactive;
+
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.TwoTierCache;
+import com.sanketika.course_backend.dto.CourseDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Non-blocking reads of the "courses" cache: the node's L1 first, then Redis
+ * over the reactive Lettuce API with the key prefix and value serializer of
+ * the RedisCache behind it, so it sees exactly what the blocking API wrote.
+ *
+ * Nothing is written from here. Database reads are handed back to
+ * {@link CourseCache#populateAll}, which runs on the task executor.
+ */
+@Component
+public class ReactiveCourseCache {
+
+    private final CacheManager cacheManager;
+    private final ReactiveRedisTemplate<String, Object> redis;
+    private final String keyPrefix;
+
+    public ReactiveCourseCache(CacheManager cacheManager,
+                               ReactiveRedisConnectionFactory connectionFactory,
+                               RedisCacheConfiguration cacheConfiguration) {
+        this.cacheManager = cacheManager;
+        this.redis = new ReactiveRedisTemplate<>(connectionFactory,
+                RedisSerializationContext.<String, Object>newSerializationContext(StringRedisSerializer.UTF_8)
+                        .value(cacheConfiguration.getValueSerializationPair())
+                        .build());
+        this.keyPrefix = cacheConfiguration.getKeyPrefixFor(CourseCache.NAME);
+    }
+
+    public Mono<CourseDto> get(UUID id) {
+        TwoTierCache local = local();
+        if (local != null && local.getLocal(id) instanceof CourseDto dto) {
+            return Mono.just(dto);
+        }
+        return redis.opsForValue().get(keyPrefix + id)
+                .ofType(CourseDto.class)
+                .doOnNext(dto -> backfill(local, id, dto))
+                .switchIfEmpty(Mono.fromRunnable(() -> backfill(local, id, null)));
+    }
+
+    /**
+     * L1 pass plus one MGET for the rest; the map only holds ids that were found.
+     */
+    public Mono<Map<UUID, CourseDto>> getAll(List<UUID> ids) {
+        Map<UUID, CourseDto> found = new HashMap<>();
+        TwoTierCache local = local();
+        List<UUID> remoteIds = new ArrayList<>();
+        for (UUID id : ids) {
+            if (local != null && local.getLocal(id) instanceof CourseDto dto) {
+                found.put(id, dto);
+            } else {
+                remoteIds.add(id);
+            }
+        }
+        if (remoteIds.isEmpty()) return Mono.just(found);
+
+        List<String> keys = remoteIds.stream().map(id -> keyPrefix + id).toList();
+        return redis.opsForValue().multiGet(keys)
+                .map(values -> {
+                    for (int i = 0; i < remoteIds.size() && i < values.size(); i++) {
+                        CourseDto dto = values.get(i) instanceof CourseDto cached ? cached : null;
+                        backfill(local, remoteIds.get(i), dto);
+                        if (dto != null) {
+                            found.put(remoteIds.get(i), dto);
+                        }
+                    }
+                    return found;
+                })
+                .defaultIfEmpty(found);
+    }
+
+    private static void backfill(TwoTierCache local, UUID id, CourseDto dto) {
+        if (local != null) {
+            local.backfillLocal(id, dto);
+        }
+    }
+
+    private TwoTierCache local() {
+        Cache cache = cacheManager.getCache(CourseCache.NAME);
+        return cache instanceof TwoTierCache twoTier ? twoTier : null;
+    }
+}
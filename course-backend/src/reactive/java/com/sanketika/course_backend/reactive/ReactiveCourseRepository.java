@@ -0,0 +1,333 @@
+package com.sanketika.course_backend.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.dto.UnitSummaryDto;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only R2DBC access to the courses and units tables, with the same
+ * filters as the JPA specifications of CourseServiceImpl and the DISTINCT
+ * queries of CourseRepository.
+ *
+ * The pool is private to this class rather than a ConnectionFactory bean: a
+ * ConnectionFactory in the context makes Spring Boot back off from the JDBC
+ * DataSource that JPA runs on. It connects with the spring.datasource
+ * settings unless app.reactive.r2dbc-url is set.
+ */
+@Repository
+public class ReactiveCourseRepository {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+
+    private static final String COURSE_COLUMNS =
+            "c.id, c.name, c.description, c.board, c.medium::text AS medium, c.grade::text AS grade, " +
+            "c.subject::text AS subject, c.status, c.version";
+
+    private static final String UNIT_COLUMNS = "u.id, u.title, u.content, u.course_id, u.version";
+
+    private final ConnectionPool pool;
+    private final DatabaseClient client;
+
+    public ReactiveCourseRepository(DataSourceProperties dataSourceProperties,
+                                    @Value("${app.reactive.r2dbc-url:}") String r2dbcUrl,
+                                    @Value("${app.reactive.pool.max-size:20}") int maxSize) {
+        Map<String, String> credentials = new HashMap<>();
+        String url = r2dbcUrl.isBlank()
+                ? toR2dbcUrl(dataSourceProperties.determineUrl(), credentials)
+                : r2dbcUrl;
+        String username = dataSourceProperties.determineUsername() != null
+                ? dataSourceProperties.determineUsername() : credentials.get("user");
+        String password = dataSourceProperties.determinePassword() != null
+                ? dataSourceProperties.determinePassword() : credentials.get("password");
+
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (username != null) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (password != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("reactive-catalog")
+                .initialSize(1)
+                .maxSize(Math.max(1, maxSize))
+                .maxIdleTime(Duration.ofMinutes(10))
+                .build());
+        this.client = DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.dispose();
+    }
+
+    // jdbc:postgresql://host/db?user=..&password=.. -> r2dbc:postgresql://host/db; R2DBC
+    // refuses credentials in the query string, so they are handed back separately.
+    private static String toR2dbcUrl(String jdbcUrl, Map<String, String> credentials) {
+        String url = jdbcUrl.replaceFirst("^jdbc:", "r2dbc:");
+        int query = url.indexOf('?');
+        if (query < 0) return url;
+
+        List<String> kept = new ArrayList<>();
+        for (String param : url.substring(query + 1).split("&")) {
+            int eq = param.indexOf('=');
+            String key = eq > 0 ? param.substring(0, eq) : param;
+            if (key.equals("user") || key.equals("password")) {
+                credentials.put(key, eq > 0 ? param.substring(eq + 1) : "");
+            } else if (!param.isEmpty()) {
+                kept.add(param);
+            }
+        }
+        return url.substring(0, query) + (kept.isEmpty() ? "" : "?" + String.join("&", kept));
+    }
+
+    public Mono<CourseDto> findById(UUID id) {
+        return client.sql("SELECT " + COURSE_COLUMNS + " FROM courses c WHERE c.id = :id")
+                .bind("id", id)
+                .map(ReactiveCourseRepository::toCourse)
+                .one();
+    }
+
+    /**
+     * Courses by id, without units, in no particular order.
+     */
+    public Flux<CourseDto> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Flux.empty();
+        return client.sql("SELECT " + COURSE_COLUMNS + " FROM courses c WHERE c.id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveCourseRepository::toCourse)
+                .all();
+    }
+
+    /**
+     * One page of the courses matching a list request, newest first, without units.
+     */
+    public Flux<CourseDto> findPage(CourseListRequest request, List<String> statuses, long offset, int limit) {
+        Where where = Where.of(request, statuses);
+        DatabaseClient.GenericExecuteSpec spec = client.sql("SELECT " + COURSE_COLUMNS + " FROM courses c WHERE "
+                + where.sql + " ORDER BY c.created_at DESC, c.id DESC LIMIT :limit OFFSET :offset");
+        return where.bindTo(spec)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveCourseRepository::toCourse)
+                .all();
+    }
+
+    public Mono<Long> count(CourseListRequest request, List<String> statuses) {
+        Where where = Where.of(request, statuses);
+        return where.bindTo(client.sql("SELECT count(*) FROM courses c WHERE " + where.sql))
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Every course matching a list request, newest first, without units. Rows
+     * are fetched from a portal {@code fetchSize} at a time as the subscriber
+     * asks for them, so a slow consumer holds back the query instead of
+     * buffering the result.
+     */
+    public Flux<CourseDto> streamAll(CourseListRequest request, List<String> statuses, int fetchSize) {
+        Where where = Where.of(request, statuses);
+        DatabaseClient.GenericExecuteSpec spec = client.sql("SELECT " + COURSE_COLUMNS + " FROM courses c WHERE "
+                + where.sql + " ORDER BY c.created_at DESC, c.id DESC");
+        return where.bindTo(spec)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(ReactiveCourseRepository::toCourse)
+                .all();
+    }
+
+    public Flux<UnitDto> findUnitsByCourseId(UUID courseId) {
+        return client.sql("SELECT " + UNIT_COLUMNS + " FROM units u WHERE u.course_id = :courseId " +
+                        "ORDER BY u.created_at ASC, u.id ASC")
+                .bind("courseId", courseId)
+                .map(ReactiveCourseRepository::toUnit)
+                .all();
+    }
+
+    public Flux<UnitSummaryDto> findUnitSummariesByCourseId(UUID courseId) {
+        return client.sql("SELECT u.id, u.title, u.course_id, u.version, octet_length(u.content) AS content_length, " +
+                        "u.created_at FROM units u WHERE u.course_id = :courseId ORDER BY u.created_at ASC, u.id ASC")
+                .bind("courseId", courseId)
+                .map(row -> new UnitSummaryDto(row.get("id", UUID.class), row.get("title", String.class),
+                        row.get("course_id", UUID.class), row.get("version", Long.class),
+                        row.get("content_length", Integer.class), row.get("created_at", LocalDateTime.class)))
+                .all();
+    }
+
+    public Flux<UnitDto> findUnitsByCourseIdIn(Collection<UUID> courseIds) {
+        if (courseIds.isEmpty()) return Flux.empty();
+        return client.sql("SELECT " + UNIT_COLUMNS + " FROM units u WHERE u.course_id IN (:courseIds) " +
+                        "ORDER BY u.created_at ASC, u.id ASC")
+                .bind("courseIds", courseIds)
+                .map(ReactiveCourseRepository::toUnit)
+                .all();
+    }
+
+    public Flux<String> findDistinctBoards() {
+        return client.sql("SELECT DISTINCT c.board FROM courses c WHERE c.deleted = false AND c.board IS NOT NULL")
+                .map(row -> row.get(0, String.class))
+                .all();
+    }
+
+    public Flux<String> findDistinctMediumByBoard(String board) {
+        return distinctElements("medium", board, Map.of());
+    }
+
+    public Flux<String> findDistinctGradeByBoardAndMediums(String board, List<String> mediums) {
+        return distinctElements("grade", board, Map.of("medium", nullToEmpty(mediums)));
+    }
+
+    public Flux<String> findDistinctSubjectsByBoardMediumsAndGrades(String board, List<String> mediums, List<String> grades) {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        filters.put("medium", nullToEmpty(mediums));
+        filters.put("grade", nullToEmpty(grades));
+        return distinctElements("subject", board, filters);
+    }
+
+    // Same SQL as CourseRepositoryCustomImpl.distinctElements (reactive streams carry no nulls).
+    private Flux<String> distinctElements(String column, String board, Map<String, List<String>> filters) {
+        if (board == null) return Flux.empty();
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT DISTINCT v FROM courses c CROSS JOIN LATERAL jsonb_array_elements_text(c.")
+                .append(column)
+                .append(") AS v WHERE c.board = :board AND c.deleted = false AND v IS NOT NULL");
+        Map<String, Object> params = new HashMap<>();
+        params.put("board", board);
+        filters.forEach((filterColumn, values) -> appendContainsAny(sql, params, filterColumn, values));
+
+        DatabaseClient.GenericExecuteSpec spec = client.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(row -> row.get(0, String.class)).all();
+    }
+
+    // OR of c.column @> '["value"]' checks, so the GIN index on the column applies.
+    private static void appendContainsAny(StringBuilder sql, Map<String, Object> params,
+                                          String column, List<String> values) {
+        if (values == null) return;
+        List<String> clauses = new ArrayList<>();
+        for (String value : values) {
+            if (value == null || value.isBlank()) continue;
+            String name = column + params.size();
+            clauses.add("c." + column + " @> cast(:" + name + " as jsonb)");
+            params.put(name, toJsonArray(value));
+        }
+        if (!clauses.isEmpty()) {
+            sql.append(" AND (").append(String.join(" OR ", clauses)).append(")");
+        }
+    }
+
+    /**
+     * WHERE clause and bind values of a list request.
+     */
+    private static final class Where {
+        private final String sql;
+        private final Map<String, Object> params;
+
+        private Where(String sql, Map<String, Object> params) {
+            this.sql = sql;
+            this.params = params;
+        }
+
+        static Where of(CourseListRequest request, List<String> statuses) {
+            StringBuilder sql = new StringBuilder("c.deleted = false AND c.status IN (:statuses)");
+            Map<String, Object> params = new HashMap<>();
+            params.put("statuses", statuses);
+
+            if (request.getSearchText() != null && !request.getSearchText().isBlank()) {
+                String likePattern = "%" + request.getSearchText().toLowerCase() + "%";
+                sql.append(" AND (lower(c.name) LIKE :nameLike OR lower(c.description) LIKE :descriptionLike)");
+                params.put("nameLike", likePattern);
+                params.put("descriptionLike", likePattern);
+            }
+            // Blank values are ignored, as in CourseServiceImpl and CourseFacetIndex.
+            List<String> boards = request.getBoards() == null ? List.of() : request.getBoards().stream()
+                    .filter(board -> board != null && !board.isBlank())
+                    .toList();
+            if (!boards.isEmpty()) {
+                sql.append(" AND c.board IN (:boards)");
+                params.put("boards", boards);
+            }
+            appendContainsAny(sql, params, "medium", request.getMediums());
+            appendContainsAny(sql, params, "grade", request.getGrades());
+            appendContainsAny(sql, params, "subject", request.getSubjects());
+            return new Where(sql.toString(), params);
+        }
+
+        DatabaseClient.GenericExecuteSpec bindTo(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                spec = spec.bind(param.getKey(), param.getValue());
+            }
+            return spec;
+        }
+    }
+
+    private static CourseDto toCourse(Readable row) {
+        CourseDto dto = new CourseDto();
+        dto.setId(row.get("id", UUID.class));
+        dto.setName(row.get("name", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setBoard(row.get("board", String.class));
+        dto.setMedium(fromJson(row.get("medium", String.class)));
+        dto.setGrade(fromJson(row.get("grade", String.class)));
+        dto.setSubject(fromJson(row.get("subject", String.class)));
+        dto.setStatus(row.get("status", String.class));
+        dto.setVersion(row.get("version", Long.class));
+        return dto;
+    }
+
+    private static UnitDto toUnit(Readable row) {
+        return new UnitDto(row.get("id", UUID.class), row.get("title", String.class),
+                row.get("content", String.class), row.get("course_id", UUID.class), row.get("version", Long.class));
+    }
+
+    private static List<String> fromJson(String json) {
+        if (json == null) return null;
+        try {
+            return JSON.readValue(json, STRING_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid jsonb list: " + json, e);
+        }
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static String toJsonArray(String value) {
+        try {
+            return JSON.writeValueAsString(List.of(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid filter value: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.sanketika.course_backend;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * Base of the tests that boot the application. One embedded Postgres and one
+ * embedded Redis are started per test JVM and shared by every context; the
+ * schema comes from ddl-auto and db/migrations.sql as in production.
+ */
+@SpringBootTest
+public abstract class EmbeddedInfrastructureTest {
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+    private static final int REDIS_PORT = freePort();
+    private static final RedisServer REDIS = startRedis(REDIS_PORT);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                REDIS.stop();
+                POSTGRES.close();
+            } catch (IOException ignored) {
+                // the JVM is going away either way
+            }
+        }));
+    }
+
+    @DynamicPropertySource
+    static void infrastructure(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+        registry.add("spring.jpa.show-sql", () -> "false");
+        registry.add("app.archive.enabled", () -> "false");
+        registry.add("logging.level.com.sanketika.course_backend", () -> "INFO");
+        registry.add("logging.level.org.springframework.security", () -> "WARN");
+        registry.add("logging.level.org.springframework.security.oauth2", () -> "WARN");
+        registry.add("logging.level.org.springframework.data.redis", () -> "WARN");
+        registry.add("logging.level.io.lettuce.core", () -> "WARN");
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static RedisServer startRedis(int port) {
+        try {
+            RedisServer redis = new RedisServer(port);
+            redis.start();
+            return redis;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.sanketika.course_backend.cache;
+
+import com.sanketika.course_backend.dto.UnitDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactCacheSerializerTest {
+
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer(64);
+
+    @Test
+    void roundTripsCompressedValues() {
+        UnitDto unit = new UnitDto(UUID.randomUUID(), "Unit", "content ".repeat(500), UUID.randomUUID(), 3L);
+
+        byte[] bytes = serializer.serialize(unit);
+
+        assertThat(bytes.length).isLessThan(unit.getContent().length());
+        assertThat(serializer.deserialize(bytes)).isEqualTo(unit);
+    }
+
+    @Test
+    void rejectsNegativeRawLength() {
+        byte[] bytes = compressedUnit();
+        ByteBuffer.wrap(bytes, 3, Integer.BYTES).putInt(-1);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("raw length -1");
+    }
+
+    @Test
+    void rejectsRawLengthBeyondTheLz4Ratio() {
+        byte[] bytes = compressedUnit();
+        ByteBuffer.wrap(bytes, 3, Integer.BYTES).putInt(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("raw length " + Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsTruncatedCourseJson() {
+        byte[] bytes = {CompactCacheSerializer.FORMAT_VERSION, 3, 0, 1, 0};
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private byte[] compressedUnit() {
+        byte[] bytes = serializer.serialize(new UnitDto(UUID.randomUUID(), "Unit", "x".repeat(4096), UUID.randomUUID(), 1L));
+        assertThat(bytes[2] & 1).isEqualTo(1);
+        return bytes;
+    }
+}
@@ -0,0 +1,213 @@
+package com.sanketika.course_backend.cache;
+
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.entity.Course;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two "replicas" (separate L1s and invalidation buses) sharing one embedded
+ * Redis, racing versioned writes and evictions of the same courses.
+ */
+class CourseCacheConcurrencyTest {
+
+    private static RedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    void staleReadFromAnotherReplicaDoesNotReplaceNewerVersion() {
+        UUID id = UUID.randomUUID();
+        replica().writeThrough(course(id, 2));
+        replica().populate(course(id, 1));
+
+        assertThat(replica().get(id).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void evictionKeepsReadsOfTheOldVersionOut() {
+        UUID id = UUID.randomUUID();
+        CourseCache writer = replica();
+        CourseCache reader = replica();
+        reader.populate(course(id, 1));
+
+        writer.evict(entity(id, 2));
+        reader.populate(course(id, 1));
+        assertThat(replica().get(id)).isNull();
+
+        reader.populate(course(id, 2));
+        assertThat(replica().get(id).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void batchedPopulateSkipsEvictedCourses() {
+        UUID evicted = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        replica().evictAll(Map.of(evicted, 5L));
+
+        replica().populateAll(List.of(course(evicted, 4), course(fresh, 0)));
+
+        CourseCache check = replica();
+        assertThat(check.get(evicted)).isNull();
+        assertThat(check.get(fresh).getVersion()).isEqualTo(0L);
+    }
+
+    @Test
+    void jsonSerializedBeforeAnUpdateIsNotWrittenBackAfterIt() {
+        UUID id = UUID.randomUUID();
+        CourseJsonCache reader = jsonReplica();
+        CourseDto read = course(id, 1);
+
+        replica().writeThrough(course(id, 2));
+        reader.populate(read);
+        assertThat(jsonReplica().get(id)).isNull();
+
+        reader.populate(course(id, 2));
+        assertThat(jsonReplica().get(id).version()).isEqualTo(2L);
+    }
+
+    @Test
+    void jsonSerializedBeforeAnEvictionIsNotWrittenBackAfterIt() {
+        UUID id = UUID.randomUUID();
+        CourseJsonCache reader = jsonReplica();
+        reader.populate(course(id, 1));
+
+        replica().evict(entity(id, 2));
+        reader.populate(course(id, 1));
+
+        assertThat(jsonReplica().get(id)).isNull();
+    }
+
+    @Test
+    void concurrentWritersAcrossReplicasLeaveTheNewestVersion() throws Exception {
+        int courses = 20;
+        int versions = 100;
+        List<UUID> ids = new ArrayList<>();
+        List<Runnable> writes = new ArrayList<>();
+        CourseCache[] replicas = {replica(), replica()};
+        for (int c = 0; c < courses; c++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            for (int v = 0; v < versions; v++) {
+                CourseDto dto = course(id, v);
+                CourseCache target = replicas[v % 2];
+                switch (v % 4) {
+                    case 0 -> writes.add(() -> target.writeThrough(dto));
+                    case 1 -> writes.add(() -> target.populateAll(List.of(dto)));
+                    case 2 -> writes.add(() -> target.evict(entity(id, dto.getVersion())));
+                    default -> writes.add(() -> target.populate(dto));
+                }
+            }
+        }
+        Collections.shuffle(writes, new Random(42));
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            writes.forEach(write -> futures.add(pool.submit(write)));
+            for (Future<?> future : futures) future.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        // Whatever interleaving happened, a read that comes late with an old
+        // version must not land; the newest version can still be cached.
+        CourseCache check = replica();
+        for (UUID id : ids) {
+            check.populate(course(id, versions - 2));
+            CourseDto cached = check.get(id);
+            assertThat(cached == null || cached.getVersion() == versions - 1)
+                    .as("course %s cached at %s", id, cached != null ? cached.getVersion() : null)
+                    .isTrue();
+            check.populate(course(id, versions - 1));
+            assertThat(check.get(id).getVersion()).isEqualTo(versions - 1L);
+        }
+    }
+
+    private static CourseCache replica() {
+        TwoTierCacheManager manager = cacheManager();
+        return new CourseCache(manager, new CourseJsonCache(manager, Jackson2ObjectMapperBuilder.json().build()));
+    }
+
+    private static CourseJsonCache jsonReplica() {
+        return new CourseJsonCache(cacheManager(), Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    // A node's caches: its own L1s and invalidation bus over the shared Redis.
+    private static TwoTierCacheManager cacheManager() {
+        RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new CompactCacheSerializer(1024)));
+        RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(configuration)
+                .build();
+        remote.afterPropertiesSet();
+        CacheInvalidationBus bus = new CacheInvalidationBus(new StringRedisTemplate(connectionFactory), "test-invalidation");
+        return new TwoTierCacheManager(remote,
+                new RedisCacheBatch(connectionFactory, configuration), new TwoTierCacheProperties(), bus);
+    }
+
+    private static CourseDto course(UUID id, long version) {
+        CourseDto dto = new CourseDto();
+        dto.setId(id);
+        dto.setName("Course " + version);
+        dto.setVersion(version);
+        return dto;
+    }
+
+    private static Course entity(UUID id, long version) {
+        Course course = new Course();
+        course.setId(id);
+        course.setVersion(version);
+        return course;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sanketika.course_backend.cache;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sanketika.course_backend.dto.UnitDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnitContentStoreTest {
+
+    private final UnitContentStore store = new UnitContentStore(null, true, DataSize.ofMegabytes(1), 16);
+
+    @Test
+    void writesAnOffloadedBodyLongerThanOneCopyChunkIntact() throws Exception {
+        // Escapes and multi-byte characters across more than 8 KB of output.
+        String content = "Line \"one\"\nकख é ".repeat(2000);
+        UnitDto unit = new UnitDto();
+        unit.setId(UUID.randomUUID());
+        unit.setVersion(0L);
+        unit.setContent(content);
+        store.offload(unit);
+        assertThat(unit.getContentRef()).isNotNull();
+
+        ObjectMapper mapper = new ObjectMapper();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeFieldName("content");
+            store.write(unit.getContentRef(), gen);
+            gen.writeStringField("after", "x");
+            gen.writeEndObject();
+        }
+
+        JsonNode written = mapper.readTree(out.toByteArray());
+        assertThat(written.get("content").asText()).isEqualTo(content);
+        assertThat(written.get("after").asText()).isEqualTo("x");
+    }
+}
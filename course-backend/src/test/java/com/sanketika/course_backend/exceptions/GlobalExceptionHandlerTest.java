@@ -0,0 +1,60 @@
+package com.sanketika.course_backend.exceptions;
+
+import com.sanketika.course_backend.utils.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GlobalExceptionHandlerTest {
+
+    private final ExceptionHandlerMethodResolver resolver = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+
+    @Test
+    void malformedCursorsAreBadRequests() {
+        String notBase64 = "not a cursor!";
+        String noSeparator = Base64.getUrlEncoder().encodeToString("2025-01-01T00:00".getBytes());
+        String badId = Base64.getUrlEncoder().encodeToString("2025-01-01T00:00|42".getBytes());
+        String badTime = Base64.getUrlEncoder().encodeToString(("yesterday|" + UUID.randomUUID()).getBytes());
+
+        for (String cursor : new String[]{notBase64, noSeparator, badId, badTime}) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                    .as(cursor)
+                    .isInstanceOf(InvalidCursorException.class)
+                    .hasMessage("Invalid cursor");
+        }
+        assertThat(handler(new InvalidCursorException("Invalid cursor"))).isEqualTo("handleBadRequest");
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_000_000), UUID.randomUUID());
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void requestErrorsHaveTheirOwnHandlers() {
+        assertThat(handler(new UnsupportedExportFormatException("xml"))).isEqualTo("handleBadRequest");
+        assertThat(handler(new InvalidUnitBatchException("No operations"))).isEqualTo("handleBadRequest");
+        assertThat(handler(new CourseNotDeletedException("Course is not deleted"))).isEqualTo("handleConflict");
+        assertThat(handler(new ResourceNotFoundException("Course not found"))).isEqualTo("handleResourceNotFound");
+    }
+
+    @Test
+    void otherIllegalArgumentsAreServerErrors() {
+        // e.g. a list that fails to serialize to JSON: not the client's fault
+        assertThat(handler(new IllegalArgumentException("Error converting list to JSON"))).isEqualTo("handleRuntimeException");
+    }
+
+    private String handler(Exception ex) {
+        Method method = resolver.resolveMethod(ex);
+        return method != null ? method.getName() : null;
+    }
+}
@@ -0,0 +1,234 @@
+package com.sanketika.course_backend.index;
+
+import com.sanketika.course_backend.dto.CourseFacetView;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.repositories.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourseFacetIndexTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final List<String> LIVE = List.of("live");
+
+    private final CourseFacetIndex index = new CourseFacetIndex(null, null, true);
+
+    @Test
+    void placesCoursesByCreatedAtWhateverTheOrderTheyArrive() {
+        Course first = course(1, "CBSE");
+        Course second = course(2, "CBSE");
+        Course third = course(3, "CBSE");
+
+        index.index(third);
+        index.index(first);
+        index.index(second);
+
+        assertThat(page(new CourseListRequest())).containsExactly(third.getId(), second.getId(), first.getId());
+    }
+
+    @Test
+    void breaksCreatedAtTiesByIdAsPostgresOrdersUuids() {
+        Course low = course(1, "CBSE");
+        low.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        Course high = course(1, "CBSE");
+        // Negative as a signed long, so UUID.compareTo would sort it first.
+        high.setId(UUID.fromString("f0000000-0000-0000-0000-000000000001"));
+
+        index.index(high);
+        index.index(low);
+
+        assertThat(page(new CourseListRequest())).containsExactly(high.getId(), low.getId());
+    }
+
+    @Test
+    void restoredCourseGoesBackToItsPlace() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            courses.add(course(i, "CBSE"));
+            index.index(courses.get(i));
+        }
+        Course restored = courses.get(1);
+
+        restored.setDeleted(true);
+        restored.setVersion(1);
+        index.index(restored);
+        restored.setDeleted(false);
+        restored.setVersion(2);
+        index.index(restored);
+
+        assertThat(page(new CourseListRequest())).containsExactly(
+                courses.get(4).getId(), courses.get(3).getId(), courses.get(2).getId(),
+                courses.get(1).getId(), courses.get(0).getId());
+    }
+
+    @Test
+    void reclaimsOrdinalsOfRemovedCourses() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 8000; i++) {
+            courses.add(course(i, i % 2 == 0 ? "CBSE" : "State"));
+        }
+        index.indexAll(courses);
+
+        for (int i = 0; i < 6000; i++) {
+            courses.get(i).setDeleted(true);
+            courses.get(i).setVersion(1);
+        }
+        index.indexAll(courses.subList(0, 6000));
+
+        assertThat(index.slots()).isLessThan(8000);
+        CourseListRequest cbse = new CourseListRequest();
+        cbse.setBoards(List.of("CBSE"));
+        CourseFacetIndex.Result result = index.findPage(cbse, LIVE, 0, 3);
+        assertThat(result.total()).isEqualTo(1000);
+        assertThat(result.ids()).containsExactly(
+                courses.get(7998).getId(), courses.get(7996).getId(), courses.get(7994).getId());
+    }
+
+    @Test
+    void ignoresAnOlderStateThatArrivesAfterANewerOne() {
+        Course older = course(1, "CBSE");
+        Course newer = copy(older, 1);
+        newer.setBoard("State");
+
+        index.index(newer);
+        index.index(older);
+
+        assertThat(page(boards("CBSE"))).isEmpty();
+        assertThat(page(boards("State"))).containsExactly(newer.getId());
+    }
+
+    @Test
+    void lateUpdateDoesNotBringARemovedCourseBack() {
+        Course updated = course(1, "CBSE");
+        updated.setVersion(1);
+        Course deleted = copy(updated, 2);
+        deleted.setDeleted(true);
+
+        index.index(deleted);
+        index.index(updated);
+
+        assertThat(page(new CourseListRequest())).isEmpty();
+    }
+
+    @Test
+    void rebuildSkipsQueuedWritesOlderThanItsSnapshot() {
+        Course older = course(1, "CBSE");
+        Course newer = copy(older, 1);
+        newer.setBoard("State");
+        CourseRepository repository = mock(CourseRepository.class);
+        TransactionTemplate transactions = mock(TransactionTemplate.class);
+        CourseFacetIndex rebuilt = new CourseFacetIndex(repository, transactions, true);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactions).executeWithoutResult(any());
+        // The hook of the older update runs while the snapshot, which already has the newer one, is read.
+        when(repository.streamLiveFacets()).thenAnswer(invocation -> {
+            rebuilt.index(older);
+            return Stream.of(view(newer));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.findPage(boards("State"), LIVE, 0, 10).ids()).containsExactly(newer.getId());
+        assertThat(rebuilt.findPage(boards("CBSE"), LIVE, 0, 10).total()).isZero();
+    }
+
+    @Test
+    void matchesBoardsExactlyLikeTheSqlPath() {
+        Course course = course(1, "CBSE");
+        index.index(course);
+
+        CourseListRequest lowerCase = new CourseListRequest();
+        lowerCase.setBoards(List.of("cbse"));
+        CourseListRequest exact = new CourseListRequest();
+        exact.setBoards(List.of("CBSE"));
+
+        assertThat(page(lowerCase)).isEmpty();
+        assertThat(page(exact)).containsExactly(course.getId());
+    }
+
+    @Test
+    void matchesListValuesExactlyAndIgnoresBlanksLikeTheSqlPath() {
+        Course course = course(1, "CBSE");
+        course.setMedium(List.of("Hindi", " English"));
+        index.index(course);
+
+        CourseListRequest respelled = new CourseListRequest();
+        respelled.setMediums(List.of("hindi", "English"));
+        CourseListRequest exact = new CourseListRequest();
+        exact.setMediums(List.of(" English"));
+        CourseListRequest blank = new CourseListRequest();
+        blank.setMediums(List.of(" "));
+        blank.setBoards(List.of(""));
+
+        assertThat(page(respelled)).isEmpty();
+        assertThat(page(exact)).containsExactly(course.getId());
+        assertThat(page(blank)).containsExactly(course.getId());
+        assertThat(index.countFacets(new CourseListRequest(), LIVE).getMediums())
+                .containsOnlyKeys("Hindi", " English");
+    }
+
+    private static CourseListRequest boards(String... boards) {
+        CourseListRequest request = new CourseListRequest();
+        request.setBoards(List.of(boards));
+        return request;
+    }
+
+    private List<UUID> page(CourseListRequest request) {
+        return index.findPage(request, LIVE, 0, 100).ids();
+    }
+
+    private static Course course(int minute, String board) {
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setBoard(board);
+        course.setStatus("live");
+        course.setMedium(List.of("English"));
+        course.setGrade(List.of("8"));
+        course.setSubject(List.of("Science"));
+        course.setCreatedAt(T0.plusMinutes(minute));
+        return course;
+    }
+
+    private static Course copy(Course course, long version) {
+        Course copy = new Course();
+        copy.setId(course.getId());
+        copy.setBoard(course.getBoard());
+        copy.setStatus(course.getStatus());
+        copy.setMedium(course.getMedium());
+        copy.setGrade(course.getGrade());
+        copy.setSubject(course.getSubject());
+        copy.setCreatedAt(course.getCreatedAt());
+        copy.setVersion(version);
+        return copy;
+    }
+
+    private static CourseFacetView view(Course course) {
+        CourseFacetView view = mock(CourseFacetView.class);
+        when(view.getId()).thenReturn(course.getId());
+        when(view.getVersion()).thenReturn(course.getVersion());
+        when(view.getBoard()).thenReturn(course.getBoard());
+        when(view.getStatus()).thenReturn(course.getStatus());
+        when(view.getMedium()).thenReturn(course.getMedium());
+        when(view.getGrade()).thenReturn(course.getGrade());
+        when(view.getSubject()).thenReturn(course.getSubject());
+        when(view.getCreatedAt()).thenReturn(course.getCreatedAt());
+        return view;
+    }
+}
@@ -0,0 +1,119 @@
+package com.sanketika.course_backend.index;
+
+import com.sanketika.course_backend.dto.CourseFacetView;
+import com.sanketika.course_backend.entity.Course;
+import com.sanketika.course_backend.repositories.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FilterCascadeIndexTest {
+
+    private final FilterCascadeIndex index = new FilterCascadeIndex(null, null, true);
+
+    @Test
+    void updateTakesBackWhatTheCourseContributed() {
+        Course course = course("CBSE", "English", 0);
+        index.index(course);
+
+        index.index(changed(course, "Hindi", 1));
+
+        assertThat(index.mediums("CBSE")).containsExactly("Hindi");
+    }
+
+    @Test
+    void ignoresAnOlderStateThatArrivesAfterANewerOne() {
+        Course older = course("CBSE", "English", 0);
+
+        index.index(changed(older, "Hindi", 1));
+        index.index(older);
+
+        assertThat(index.mediums("CBSE")).containsExactly("Hindi");
+    }
+
+    @Test
+    void lateUpdateDoesNotBringARemovedCourseBack() {
+        Course updated = course("CBSE", "English", 1);
+        Course deleted = changed(updated, "English", 2);
+        deleted.setDeleted(true);
+
+        index.index(deleted);
+        index.index(updated);
+
+        assertThat(index.boards()).isEmpty();
+    }
+
+    @Test
+    void restoredCourseIsListedAgain() {
+        Course course = course("CBSE", "English", 0);
+        index.index(course);
+        Course deleted = changed(course, "English", 1);
+        deleted.setDeleted(true);
+        index.index(deleted);
+
+        index.index(changed(course, "English", 2));
+
+        assertThat(index.boards()).containsExactly("CBSE");
+    }
+
+    @Test
+    void rebuildSkipsQueuedWritesOlderThanItsSnapshot() {
+        Course older = course("CBSE", "English", 0);
+        Course newer = changed(older, "Hindi", 1);
+        CourseRepository repository = mock(CourseRepository.class);
+        TransactionTemplate transactions = mock(TransactionTemplate.class);
+        FilterCascadeIndex rebuilt = new FilterCascadeIndex(repository, transactions, true);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactions).executeWithoutResult(any());
+        // The hook of the older update runs while the snapshot, which already has the newer one, is read.
+        when(repository.streamLiveFacets()).thenAnswer(invocation -> {
+            rebuilt.index(older);
+            return Stream.of(view(newer));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.mediums("CBSE")).containsExactly("Hindi");
+    }
+
+    private static Course course(String board, String medium, long version) {
+        Course course = new Course();
+        course.setId(UUID.randomUUID());
+        course.setBoard(board);
+        course.setMedium(List.of(medium));
+        course.setGrade(List.of("8"));
+        course.setSubject(List.of("Science"));
+        course.setVersion(version);
+        return course;
+    }
+
+    private static Course changed(Course course, String medium, long version) {
+        Course changed = course(course.getBoard(), medium, version);
+        changed.setId(course.getId());
+        return changed;
+    }
+
+    private static CourseFacetView view(Course course) {
+        CourseFacetView view = mock(CourseFacetView.class);
+        when(view.getId()).thenReturn(course.getId());
+        when(view.getVersion()).thenReturn(course.getVersion());
+        when(view.getBoard()).thenReturn(course.getBoard());
+        when(view.getMedium()).thenReturn(course.getMedium());
+        when(view.getGrade()).thenReturn(course.getGrade());
+        when(view.getSubject()).thenReturn(course.getSubject());
+        return view;
+    }
+}
@@ -0,0 +1,149 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.EmbeddedInfrastructureTest;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.metrics.RequestJpaCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verify;
+
+/**
+ * EXPLAINs the statements the Specification path of the course list actually
+ * prepares, to check that medium / grade / subject filters reach the partial
+ * GIN indexes, and that the path matches values exactly as the facet index does.
+ */
+@TestPropertySource(properties = "app.facet-index.enabled=false")
+class CourseListQueryPlanTest extends EmbeddedInfrastructureTest {
+
+    private static final String BOARD = "PlanTest";
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Spied to read the SQL Hibernate hands to its statement inspector.
+    @MockitoSpyBean
+    private RequestJpaCounters counters;
+
+    @BeforeEach
+    void catalog() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM courses WHERE board = ?", Integer.class, BOARD);
+        if (existing != null && existing > 0) return;
+        // One course in a thousand is Hindi: too rare for walking the list index in order to pay off.
+        jdbcTemplate.update("""
+                INSERT INTO courses (id, name, description, board, medium, grade, subject, status, deleted, version, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Plan ' || i, 'Query plan fixture', ?,
+                       CASE WHEN i % 1000 = 0 THEN '["Hindi"]' ELSE '["English"]' END::jsonb,
+                       jsonb_build_array((i % 12 + 1)::text), '["Science"]'::jsonb,
+                       'live', false, 0, now() - i * interval '1 second', now()
+                FROM generate_series(1, 20000) AS i""", BOARD);
+        jdbcTemplate.execute("ANALYZE courses");
+    }
+
+    @Test
+    void mediumFilterOfAPagedListUsesTheGinIndex() {
+        CourseListRequest request = request();
+        request.setMediums(List.of("Hindi"));
+
+        clearInvocations(counters);
+        assertThat(courseService.listCourses(request).getTotalElements()).isEqualTo(20);
+
+        List<String> filtered = statementsContaining("@>");
+        assertThat(filtered).hasSize(2);
+        for (String sql : filtered) {
+            assertThat(explain(sql)).contains("idx_courses_medium_gin");
+        }
+    }
+
+    @Test
+    void mediumFilterOfAKeysetScrollUsesTheGinIndex() {
+        CourseListRequest request = request();
+        request.setMediums(List.of("Hindi"));
+
+        clearInvocations(counters);
+        assertThat(courseService.scrollCourses(request).getContent()).hasSize(10);
+
+        List<String> filtered = statementsContaining("@>");
+        assertThat(filtered).hasSize(1);
+        assertThat(explain(filtered.get(0))).contains("idx_courses_medium_gin");
+    }
+
+    @Test
+    void filterValuesMatchExactlyAndBlankOnesAreIgnored() {
+        CourseListRequest respelled = request();
+        respelled.setMediums(List.of("hindi", " Hindi"));
+        assertThat(courseService.listCourses(respelled).getTotalElements()).isZero();
+
+        CourseListRequest boards = request();
+        boards.setBoards(List.of(BOARD.toLowerCase()));
+        assertThat(courseService.listCourses(boards).getTotalElements()).isZero();
+
+        CourseListRequest blank = request();
+        blank.setMediums(List.of("Hindi", " "));
+        blank.setGrades(List.of(""));
+        assertThat(courseService.listCourses(blank).getTotalElements()).isEqualTo(20);
+    }
+
+    private static CourseListRequest request() {
+        CourseListRequest request = new CourseListRequest();
+        request.setBoards(List.of(BOARD));
+        request.setPage(0);
+        request.setSize(10);
+        return request;
+    }
+
+    private List<String> statementsContaining(String fragment) {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(counters, atLeastOnce()).inspect(sql.capture());
+        return sql.getAllValues().stream().filter(statement -> statement.contains(fragment)).toList();
+    }
+
+    // The generic plan, the one a server-prepared statement settles on, so it
+    // must not depend on the bound values: they are all passed as NULL.
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        StringJoiner nulls = new StringJoiner(", ", "(", ")");
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+                nulls.add("NULL");
+            } else {
+                numbered.append(c);
+            }
+        }
+        String execute = "EXPLAIN EXECUTE list_plan" + (parameters > 0 ? nulls.toString() : "");
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            List<String> plan = new ArrayList<>();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE list_plan AS " + numbered);
+                try (ResultSet rows = statement.executeQuery(execute)) {
+                    while (rows.next()) plan.add(rows.getString(1));
+                } finally {
+                    statement.execute("DEALLOCATE list_plan");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+            return String.join("\n", plan);
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.EmbeddedInfrastructureTest;
+import com.sanketika.course_backend.cache.CourseCache;
+import com.sanketika.course_backend.cache.CourseJsonCache;
+import com.sanketika.course_backend.dto.CourseDto;
+import com.sanketika.course_backend.dto.CourseListRequest;
+import com.sanketika.course_backend.metrics.RequestJpaCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements Hibernate prepares for the course read paths with a
+ * cold cache: units come in one query for the whole page, not one per course.
+ */
+@TestPropertySource(properties = "app.facet-index.enabled=false")
+class CourseStatementCountTest extends EmbeddedInfrastructureTest {
+
+    private static final String BOARD = "CountTest";
+    private static final int UNITS_PER_COURSE = 3;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // The same bean as in CourseListQueryPlanTest, so both share one context.
+    @MockitoSpyBean
+    private RequestJpaCounters counters;
+
+    @BeforeEach
+    void catalog() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT count(*) FROM courses WHERE board = ?", Integer.class, BOARD);
+        if (existing != null && existing > 0) return;
+        jdbcTemplate.update("""
+                INSERT INTO courses (id, name, description, board, medium, grade, subject, status, deleted, version, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Count ' || i, 'Statement count fixture', ?,
+                       '["English"]'::jsonb, '["8"]'::jsonb, '["Science"]'::jsonb,
+                       'live', false, 0, now() - i * interval '1 second', now()
+                FROM generate_series(1, 250) AS i""", BOARD);
+        jdbcTemplate.update("""
+                INSERT INTO units (id, title, content, course_id, version, created_at, updated_at)
+                SELECT gen_random_uuid(), 'Unit ' || u, 'Body', c.id, 0, now(), now()
+                FROM courses c, generate_series(1, ?) AS u
+                WHERE c.board = ?""", UNITS_PER_COURSE, BOARD);
+    }
+
+    @Test
+    void pagedListRunsTheSameStatementsWhateverThePageSize() {
+        long small = countStatements(() -> withUnits(courseService.listCourses(request(10)).getContent()));
+        long medium = countStatements(() -> withUnits(courseService.listCourses(request(50)).getContent()));
+        long large = countStatements(() -> withUnits(courseService.listCourses(request(200)).getContent()));
+
+        // The page, its count, and the units of every course on it.
+        assertThat(small).isEqualTo(3);
+        assertThat(medium).isEqualTo(small);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void keysetScrollRunsTheSameStatementsWhateverThePageSize() {
+        long small = countStatements(() -> withUnits(courseService.scrollCourses(request(10)).getContent()));
+        long large = countStatements(() -> withUnits(courseService.scrollCourses(request(200)).getContent()));
+
+        // The page and the units of every course on it.
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void courseByIdRunsTheSameStatementsWhateverItsUnitCount() {
+        UUID withUnits = courseService.listCourses(request(1)).getContent().get(0).getId();
+        UUID withoutUnits = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO courses (id, name, description, board, status, deleted, version, created_at, updated_at)
+                VALUES (?, 'No units', 'Statement count fixture', 'CountTestEmpty', 'live', false, 0, now(), now())""",
+                withoutUnits);
+
+        long many = countStatements(() -> withUnits(List.of(courseService.getCourseById(withUnits))));
+        long none = countStatements(() -> assertThat(courseService.getCourseById(withoutUnits).getUnits()).isEmpty());
+
+        assertThat(many).isEqualTo(none);
+    }
+
+    // Counts with a cold course cache, so every course is read from the database.
+    private long countStatements(Runnable read) {
+        clearCourseCaches();
+        counters.begin();
+        RequestJpaCounters.Counts counts;
+        try {
+            read.run();
+        } finally {
+            counts = counters.end();
+        }
+        return counts.getStatements();
+    }
+
+    private void clearCourseCaches() {
+        for (String name : List.of(CourseCache.NAME, CourseJsonCache.NAME)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) cache.clear();
+        }
+    }
+
+    private static void withUnits(List<CourseDto> courses) {
+        assertThat(courses).isNotEmpty();
+        courses.forEach(course -> assertThat(course.getUnits()).hasSize(UNITS_PER_COURSE));
+    }
+
+    private static CourseListRequest request(int size) {
+        CourseListRequest request = new CourseListRequest();
+        request.setBoards(List.of(BOARD));
+        request.setPage(0);
+        request.setSize(size);
+        return request;
+    }
+}
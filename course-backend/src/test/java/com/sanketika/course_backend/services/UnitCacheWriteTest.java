@@ -0,0 +1,214 @@
+package com.sanketika.course_backend.services;
+
+import com.sanketika.course_backend.EmbeddedInfrastructureTest;
+import com.sanketika.course_backend.cache.TwoTierCache;
+import com.sanketika.course_backend.cache.UnitContentStore;
+import com.sanketika.course_backend.dto.UnitBatchRequest;
+import com.sanketika.course_backend.dto.UnitDto;
+import com.sanketika.course_backend.exceptions.ResourceNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit updates and deletes reach the units cache only once they commit, and a
+ * read that loaded a unit before them cannot write the old version back after.
+ */
+class UnitCacheWriteTest extends EmbeddedInfrastructureTest {
+
+    @Autowired
+    private UnitService unitService;
+
+    @Autowired
+    private UnitBatchService unitBatchService;
+
+    @Autowired
+    private CourseArchiveService courseArchiveService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Spied to commit a change in the middle of a read.
+    @MockitoSpyBean
+    private UnitContentStore unitContentStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID courseId;
+    private UUID unitId;
+
+    @BeforeEach
+    void unit() {
+        courseId = UUID.randomUUID();
+        unitId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO courses (id, name, description, board, status, deleted, version, created_at, updated_at)
+                VALUES (?, 'Cache test', 'Unit cache fixture', 'CacheTest', 'live', false, 0, now(), now())""", courseId);
+        jdbcTemplate.update("""
+                INSERT INTO units (id, title, content, course_id, version, created_at, updated_at)
+                VALUES (?, 'Unit', 'Body', ?, 0, now(), now())""", unitId, courseId);
+    }
+
+    @Test
+    void rolledBackUpdateIsNotCached() {
+        transactionTemplate.executeWithoutResult(status -> {
+            unitService.updateUnit(unitId, update("Rolled back"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(units().get(unitId)).isNull();
+    }
+
+    @Test
+    void committedUpdateIsCached() {
+        unitService.updateUnit(unitId, update("Committed"));
+
+        UnitDto cached = units().get(unitId, UnitDto.class);
+        assertThat(cached.getTitle()).isEqualTo("Committed");
+        assertThat(cached.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void lateWriteOfAnUpdateDoesNotBringADeletedUnitBack() {
+        UnitDto updated = unitService.updateUnit(unitId, update("Before delete"));
+
+        unitService.deleteUnit(unitId);
+
+        assertThat(units().get(unitId)).isNull();
+        TwoTierCache twoTier = (TwoTierCache) units();
+        assertThat(twoTier.putIfNewer(unitId, updated, updated.getVersion(), "units")).isFalse();
+        assertThat(units().get(unitId)).isNull();
+    }
+
+    @Test
+    void readThatLoadedTheOldVersionDoesNotOverwriteAnUpdate() {
+        commitDuringRead(() -> unitService.updateUnit(unitId, update("Updated")));
+
+        UnitDto stale = unitService.getUnitById(unitId);
+        assertThat(stale.getVersion()).isZero();
+
+        UnitDto served = unitService.getUnitById(unitId);
+        assertThat(served.getTitle()).isEqualTo("Updated");
+        assertThat(served.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void readThatLoadedTheOldVersionDoesNotBringADeletedUnitBack() {
+        commitDuringRead(() -> unitService.deleteUnit(unitId));
+
+        assertThat(unitService.getUnitById(unitId).getVersion()).isZero();
+
+        assertThat(units().get(unitId)).isNull();
+        assertThatThrownBy(() -> unitService.getUnitById(unitId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void readThatLoadedTheOldVersionDoesNotOverwriteABatchUpdate() {
+        commitDuringRead(() -> unitBatchService.apply(batch("update")));
+
+        assertThat(unitService.getUnitById(unitId).getVersion()).isZero();
+
+        UnitDto served = unitService.getUnitById(unitId);
+        assertThat(served.getTitle()).isEqualTo("Batched");
+        assertThat(served.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void readThatLoadedTheOldVersionDoesNotBringABatchDeletedUnitBack() {
+        commitDuringRead(() -> unitBatchService.apply(batch("delete")));
+
+        assertThat(unitService.getUnitById(unitId).getVersion()).isZero();
+
+        assertThat(units().get(unitId)).isNull();
+    }
+
+    @Test
+    void readThatLoadedTheOldVersionDoesNotBringAnArchivedUnitBack() {
+        commitDuringRead(() -> {
+            expire();
+            courseArchiveService.archiveExpired();
+        });
+
+        assertThat(unitService.getUnitById(unitId).getVersion()).isZero();
+
+        assertThat(units().get(unitId)).isNull();
+        assertThatThrownBy(() -> unitService.getUnitById(unitId)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void restoredUnitIsCachedAgain() {
+        expire();
+        courseArchiveService.archiveExpired();
+
+        courseArchiveService.restore(courseId);
+
+        assertThat(unitService.getUnitById(unitId).getVersion()).isEqualTo(1L);
+        assertThat(units().get(unitId, UnitDto.class).getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void readCachesTheUnitAtItsVersion() {
+        assertThat(unitService.getUnitById(unitId).getVersion()).isZero();
+
+        assertThat(units().get(unitId, UnitDto.class).getVersion()).isZero();
+    }
+
+    // Commits the change, hooks included, after the next read of the unit has
+    // loaded it from the database and before that read writes it back.
+    private void commitDuringRead(Runnable change) {
+        AtomicBoolean done = new AtomicBoolean();
+        doAnswer(invocation -> {
+            invocation.callRealMethod();
+            UnitDto loaded = invocation.getArgument(0);
+            if (unitId.equals(loaded.getId()) && done.compareAndSet(false, true)) {
+                change.run();
+            }
+            return null;
+        }).when(unitContentStore).offload(any(UnitDto.class));
+    }
+
+    private void expire() {
+        jdbcTemplate.update("UPDATE courses SET deleted = true, deleted_at = now() - interval '1 year' WHERE id = ?",
+                courseId);
+    }
+
+    private Cache units() {
+        return cacheManager.getCache("units");
+    }
+
+    private UnitBatchRequest batch(String op) {
+        UnitBatchRequest.Operation operation = new UnitBatchRequest.Operation();
+        operation.setOp(op);
+        operation.setId(unitId);
+        operation.setTitle("Batched");
+        operation.setContent("Body");
+        UnitBatchRequest request = new UnitBatchRequest();
+        request.setOperations(List.of(operation));
+        return request;
+    }
+
+    private static UnitDto update(String title) {
+        UnitDto dto = new UnitDto();
+        dto.setTitle(title);
+        dto.setContent("Body");
+        return dto;
+    }
+}